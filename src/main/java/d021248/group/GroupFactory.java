@@ -1,9 +1,14 @@
 package d021248.group;
 
+import java.util.function.Function;
+
 import d021248.group.api.Element;
 import d021248.group.cyclic.CyclicGroup;
 import d021248.group.dihedral.DihedralGroup;
+import d021248.group.homomorphism.GroupHomomorphism;
 import d021248.group.product.DirectProduct;
+import d021248.group.product.NaryDirectProduct;
+import d021248.group.product.SemidirectProduct;
 import d021248.group.quotient.QuotientGroup;
 import d021248.group.subgroup.Subgroup;
 import d021248.group.symmetric.AlternatingGroup;
@@ -35,6 +40,19 @@ public final class GroupFactory {
         return new DirectProduct<>(group1, group2);
     }
 
+    public static NaryDirectProduct directProduct(Group<?>... factors) {
+        return NaryDirectProduct.of(factors);
+    }
+
+    public static NaryDirectProduct directPower(Group<?> group, int k) {
+        return NaryDirectProduct.power(group, k);
+    }
+
+    public static <N extends Element, H extends Element> SemidirectProduct<N, H> semidirectProduct(
+            Group<N> normal, Group<H> complement, Function<? super H, ? extends GroupHomomorphism<N, N>> action) {
+        return new SemidirectProduct<>(normal, complement, action);
+    }
+
     public static <E extends Element> QuotientGroup<E> quotient(Group<E> parent, Subgroup<E> normalSubgroup) {
         return new QuotientGroup<>(parent, normalSubgroup);
     }
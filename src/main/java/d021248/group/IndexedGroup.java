@@ -0,0 +1,317 @@
+package d021248.group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import d021248.group.api.Element;
+import d021248.group.api.Operation;
+import d021248.group.util.Constants;
+
+/**
+ * Indexed view of a finite group: every element is assigned a stable id
+ * 0..n-1 (in the iteration order of the underlying element set), and products
+ * and inverses are available as int operations.
+ * <p>
+ * Indexing costs |G| inverses and no products: {@link #multiply(int, int)}
+ * computes each product through the underlying operation and an element → id
+ * hash lookup. Algorithms that need all |G|² products anyway can call
+ * {@link #tabulate()} to precompute the Cayley table (for groups of order at
+ * most {@value d021248.group.util.Constants#MAX_CAYLEY_TABLE_ORDER}), after
+ * which a product is a single array lookup.
+ * </p>
+ * <p>
+ * An {@code IndexedGroup} is itself a {@link Group} delegating to the wrapped
+ * group, so it can be passed to any algorithm; algorithms that recognize it
+ * (via {@link #of(Group)}) reuse its tables instead of rebuilding them.
+ * </p>
+ *
+ * <pre>{@code
+ * IndexedGroup<Permutation> s4 = IndexedGroup.of(new SymmetricGroup(4));
+ * int a = s4.indexOf(Permutation.cycle(1, 2, 3, 4));
+ * int b = s4.inverse(a);
+ * System.out.println(s4.multiply(a, b) == s4.identityIndex()); // true
+ * }</pre>
+ *
+ * @param <E> the type of group elements
+ */
+public final class IndexedGroup<E extends Element> implements Group<E> {
+    private final Group<E> group;
+    private final List<E> elements;
+    private final Map<E, Integer> index;
+    private final int identity;
+    private final int[] inverses;
+    private volatile int[][] table;
+    private int[] orders;
+    private int[] generators;
+
+    public IndexedGroup(Group<E> group) {
+        this.group = Objects.requireNonNull(group, Constants.NULL_GROUP);
+        this.elements = List.copyOf(group.elements());
+        this.index = new HashMap<>(elements.size() * 2);
+        for (int i = 0; i < elements.size(); i++) {
+            index.put(elements.get(i), i);
+        }
+        this.identity = indexOf(group.identity());
+        this.inverses = new int[elements.size()];
+        for (int i = 0; i < inverses.length; i++) {
+            inverses[i] = indexOf(group.inverse(elements.get(i)));
+        }
+    }
+
+    /**
+     * Return the given group if it is already indexed, otherwise index it.
+     */
+    public static <E extends Element> IndexedGroup<E> of(Group<E> group) {
+        if (group instanceof IndexedGroup<E> indexed) {
+            return indexed;
+        }
+        return new IndexedGroup<>(group);
+    }
+
+    /**
+     * Precompute the Cayley table so that {@link #multiply(int, int)} is a
+     * single array lookup. Costs |G|² products; does nothing if the table
+     * exists or |G| exceeds
+     * {@value d021248.group.util.Constants#MAX_CAYLEY_TABLE_ORDER}.
+     *
+     * @return this indexed group
+     */
+    public synchronized IndexedGroup<E> tabulate() {
+        if (table == null && elements.size() <= Constants.MAX_CAYLEY_TABLE_ORDER) {
+            table = buildTable();
+        }
+        return this;
+    }
+
+    private int[][] buildTable() {
+        int n = elements.size();
+        int[][] result = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            E a = elements.get(i);
+            for (int j = 0; j < n; j++) {
+                result[i][j] = indexOf(group.operate(a, elements.get(j)));
+            }
+        }
+        return result;
+    }
+
+    /** The wrapped group. */
+    public Group<E> group() {
+        return group;
+    }
+
+    /**
+     * Id of an element.
+     *
+     * @throws IllegalArgumentException if the element is not in the group
+     */
+    public int indexOf(E element) {
+        Integer id = index.get(element);
+        if (id == null) {
+            throw new IllegalArgumentException("element not in group: " + element);
+        }
+        return id;
+    }
+
+    /** True if the element belongs to the group. */
+    public boolean contains(E element) {
+        return index.containsKey(element);
+    }
+
+    /** Element with the given id. */
+    public E elementAt(int id) {
+        return elements.get(id);
+    }
+
+    /** Elements in id order (unmodifiable). */
+    public List<E> elementList() {
+        return elements;
+    }
+
+    /** Id of the product a * b. */
+    public int multiply(int a, int b) {
+        int[][] cayley = table;
+        if (cayley != null) {
+            return cayley[a][b];
+        }
+        return indexOf(group.operate(elements.get(a), elements.get(b)));
+    }
+
+    /** Id of the inverse of a. */
+    public int inverse(int a) {
+        return inverses[a];
+    }
+
+    /** Id of the conjugate x * g * x⁻¹. */
+    public int conjugate(int g, int x) {
+        return multiply(multiply(x, g), inverses[x]);
+    }
+
+    /** Id of the identity element. */
+    public int identityIndex() {
+        return identity;
+    }
+
+    /** True if the full Cayley table has been precomputed by {@link #tabulate()}. */
+    public boolean hasTable() {
+        return table != null;
+    }
+
+    /**
+     * Order of the element with the given id. All element orders are computed
+     * on first use: the powers of each element of unknown order are walked
+     * once, and the walk assigns ord(xᵏ) = ord(x) / gcd(k, ord(x)) to every
+     * power. Each walked cyclic subgroup has all its generators newly assigned,
+     * so this costs O(|G| log log |G|) products instead of Σ ord(x).
+     */
+    public int elementOrder(int id) {
+        return orders()[id];
+    }
+
+    private synchronized int[] orders() {
+        if (orders == null) {
+            int[] result = new int[elements.size()];
+            int[] powers = new int[elements.size()];
+            result[identity] = 1;
+            for (int i = 0; i < result.length; i++) {
+                if (result[i] != 0) {
+                    continue;
+                }
+                int k = 0;
+                for (int x = i; x != identity; x = multiply(x, i)) {
+                    powers[k++] = x;
+                }
+                int order = k + 1;
+                for (int j = 0; j < k; j++) {
+                    result[powers[j]] = order / MathUtil.gcd(j + 1, order);
+                }
+            }
+            orders = result;
+        }
+        return orders;
+    }
+
+    /**
+     * A small generating set, chosen greedily by descending element order.
+     * Computed once; the returned array is a copy.
+     */
+    public int[] generators() {
+        return generatingSet().clone();
+    }
+
+    private synchronized int[] generatingSet() {
+        if (generators == null) {
+            int[] all = new int[elements.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            generators = generatingSet(all);
+        }
+        return generators;
+    }
+
+    /**
+     * A small generating set for the subgroup whose elements have the given ids,
+     * chosen greedily by descending element order: an element is added only if
+     * it is not already in the closure of those chosen before it.
+     *
+     * @param subgroupIds ids of the elements of a subgroup
+     * @return ids of generators of that subgroup
+     */
+    public int[] generatingSet(int[] subgroupIds) {
+        Integer[] byOrder = new Integer[subgroupIds.length];
+        for (int i = 0; i < byOrder.length; i++) {
+            byOrder[i] = subgroupIds[i];
+        }
+        Arrays.sort(byOrder, (a, b) -> Integer.compare(elementOrder(b), elementOrder(a)));
+        List<Integer> chosen = new ArrayList<>();
+        BitSet closure = new BitSet(elements.size());
+        closure.set(identity);
+        int size = 1;
+        for (int candidate : byOrder) {
+            if (size == subgroupIds.length) {
+                break;
+            }
+            if (!closure.get(candidate)) {
+                chosen.add(candidate);
+                closure = closure(chosen.stream().mapToInt(Integer::intValue).toArray());
+                size = closure.cardinality();
+            }
+        }
+        return chosen.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Ids of the subgroup generated by the given ids, by breadth-first search
+     * over right multiplication with the generators. Costs O(|H| · |gens|).
+     */
+    public BitSet closure(int... gens) {
+        BitSet seen = new BitSet(elements.size());
+        int[] queue = new int[elements.size()];
+        int head = 0;
+        int tail = 0;
+        seen.set(identity);
+        queue[tail++] = identity;
+        while (head < tail) {
+            int x = queue[head++];
+            for (int s : gens) {
+                int y = multiply(x, s);
+                if (!seen.get(y)) {
+                    seen.set(y);
+                    queue[tail++] = y;
+                }
+            }
+        }
+        return seen;
+    }
+
+    /** Elements with the ids set in the given bit set. */
+    public Set<E> elementsOf(BitSet ids) {
+        Set<E> result = new HashSet<>();
+        ids.stream().forEach(i -> result.add(elements.get(i)));
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public Set<E> elements() {
+        return group.elements();
+    }
+
+    @Override
+    public Operation<E> operation() {
+        return group.operation();
+    }
+
+    @Override
+    public E identity() {
+        return elements.get(identity);
+    }
+
+    @Override
+    public E inverse(E element) {
+        return elements.get(inverses[indexOf(element)]);
+    }
+
+    @Override
+    public int order() {
+        return elements.size();
+    }
+
+    @Override
+    public int order(E element) {
+        return elementOrder(indexOf(element));
+    }
+
+    @Override
+    public String toString() {
+        return "Indexed(" + group + ")";
+    }
+}
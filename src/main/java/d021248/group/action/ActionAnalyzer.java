@@ -1,16 +1,25 @@
 package d021248.group.action;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import d021248.group.Group;
+import d021248.group.IndexedGroup;
 import d021248.group.api.Element;
+import d021248.group.conjugacy.ConjugacyAnalyzer;
+import d021248.group.conjugacy.ConjugacyClass;
 import d021248.group.subgroup.Subgroup;
-import d021248.group.subgroup.SubgroupGenerator;
 
 /**
  * Utility class for analyzing group actions.
@@ -28,73 +37,64 @@ public final class ActionAnalyzer {
      * <li>Identity: e · x = x for all x ∈ X</li>
      * <li>Compatibility: (g₁g₂) · x = g₁ · (g₂ · x) for all g₁, g₂, x</li>
      * </ul>
+     * <p>
+     * The mapping is evaluated on a generating set of G only and compatibility
+     * is checked on the induced permutations of X (see {@link CompiledAction}),
+     * which costs O(|G| · |gens| · |X|) instead of O(|G|² · |X|) calls.
      *
      * @param action the action to verify
      * @return true if it's a valid group action
      */
     public static <E extends Element, X> boolean isAction(Action<E, X> action) {
-        Group<E> group = action.group();
-        Set<X> set = action.set();
-        E identity = group.identity();
-
-        // Check identity: e · x = x
-        for (X x : set) {
-            if (!action.act(identity, x).equals(x)) {
-                return false;
-            }
-        }
-
-        // Check compatibility: (g₁g₂) · x = g₁ · (g₂ · x)
-        for (E g1 : group.elements()) {
-            for (E g2 : group.elements()) {
-                E product = group.operate(g1, g2);
-                for (X x : set) {
-                    X productAction = action.act(product, x);
-                    X compatibleAction = action.act(g1, action.act(g2, x));
-                    if (!productAction.equals(compatibleAction)) {
-                        return false;
-                    }
-                }
-            }
-        }
+        return CompiledAction.compileOrNull(action) != null;
+    }
 
-        return true;
+    /**
+     * Compile an action into permutations of point ids, for the overloads of
+     * this class taking a {@link CompiledAction}.
+     *
+     * @param action the action
+     * @return the compiled action
+     * @throws IllegalArgumentException if the mapping is not a group action
+     */
+    public static <E extends Element, X> CompiledAction<E, X> compile(Action<E, X> action) {
+        return CompiledAction.of(action);
     }
 
     /**
      * Compute the orbit of an element under the group action.
      * <p>
-     * orb(x) = {g · x | g ∈ G}
+     * orb(x) = {g · x | g ∈ G}, found by breadth-first search over a
+     * generating set of G (see {@link SchreierOrbit}) in O(|orb(x)| · |gens|)
+     * applications of the action.
      *
      * @param action the group action
      * @param x      the element
      * @return orbit of x
      */
     public static <E extends Element, X> Orbit<X> orbit(Action<E, X> action, X x) {
-        Set<X> orbitElements = new HashSet<>();
-
-        for (E g : action.group().elements()) {
-            orbitElements.add(action.act(g, x));
-        }
-
-        return new Orbit<>(x, orbitElements);
+        return SchreierOrbit.of(action, x).toOrbit();
     }
 
     /**
      * Partition the set into disjoint orbits.
+     * <p>
+     * One generating set of G is computed and shared by all orbit searches, so
+     * the total cost is O(|X| · |gens|) applications of the action.
      *
      * @param action the group action
      * @return list of all orbits
      */
     public static <E extends Element, X> List<Orbit<X>> orbits(Action<E, X> action) {
+        List<E> generators = SchreierOrbit.generatorsOf(action.group());
         Set<X> remaining = new HashSet<>(action.set());
         List<Orbit<X>> orbits = new ArrayList<>();
 
         while (!remaining.isEmpty()) {
             X x = remaining.iterator().next();
-            Orbit<X> orb = orbit(action, x);
-            orbits.add(orb);
-            remaining.removeAll(orb.elements());
+            SchreierOrbit<E, X> orb = SchreierOrbit.of(action, action.group(), generators, x);
+            orbits.add(orb.toOrbit());
+            orb.points().forEach(remaining::remove);
         }
 
         return orbits;
@@ -103,23 +103,15 @@ public final class ActionAnalyzer {
     /**
      * Compute the stabilizer of an element.
      * <p>
-     * Stab(x) = {g ∈ G | g · x = x}
+     * Stab(x) = {g ∈ G | g · x = x}, generated by the Schreier generators of the
+     * orbit of x instead of scanning all of G.
      *
      * @param action the group action
      * @param x      the element
      * @return stabilizer subgroup
      */
     public static <E extends Element, X> Subgroup<E> stabilizer(Action<E, X> action, X x) {
-        Group<E> group = action.group();
-        Set<E> stabilizerElements = new HashSet<>();
-
-        for (E g : group.elements()) {
-            if (action.act(g, x).equals(x)) {
-                stabilizerElements.add(g);
-            }
-        }
-
-        return SubgroupGenerator.generate(group, stabilizerElements);
+        return SchreierOrbit.of(action, x).stabilizer();
     }
 
     /**
@@ -130,33 +122,65 @@ public final class ActionAnalyzer {
      * @return true if theorem holds
      */
     public static <E extends Element, X> boolean verifyOrbitStabilizer(Action<E, X> action, X x) {
-        Orbit<X> orb = orbit(action, x);
-        Subgroup<E> stab = stabilizer(action, x);
+        SchreierOrbit<E, X> orb = SchreierOrbit.of(action, x);
         int groupOrder = action.group().order();
 
-        return orb.size() * stab.order() == groupOrder;
+        return orb.size() * orb.stabilizer().order() == groupOrder;
     }
 
     /**
      * Check if the action is transitive (single orbit).
+     * <p>
+     * Only the orbit of one point is searched, over a generating set of G; the
+     * action is transitive iff that orbit covers X.
      *
      * @param action the group action
      * @return true if G acts transitively on X
      */
     public static <E extends Element, X> boolean isTransitive(Action<E, X> action) {
-        return orbits(action).size() == 1;
+        X x = action.set().iterator().next();
+        return SchreierOrbit.of(action, x).size() == action.set().size();
     }
 
     /**
      * Check if the action is free (all stabilizers are trivial).
+     * <p>
+     * The action is free iff every orbit has |G| points. Orbits are searched
+     * over a generating set of G and the check stops at the first generator
+     * fixing a point or the first orbit that closes with fewer than |G|
+     * points; no stabilizer subgroup is built.
      *
      * @param action the group action
      * @return true if Stab(x) = {e} for all x
      */
     public static <E extends Element, X> boolean isFree(Action<E, X> action) {
-        for (X x : action.set()) {
-            Subgroup<E> stab = stabilizer(action, x);
-            if (stab.order() != 1) {
+        int n = action.group().order();
+        Set<X> set = action.set();
+        if (set.size() % n != 0) {
+            return false;
+        }
+        List<E> generators = SchreierOrbit.generatorsOf(action.group());
+        Set<X> seen = new HashSet<>();
+        List<X> queue = new ArrayList<>();
+        for (X x : set) {
+            if (!seen.add(x)) {
+                continue;
+            }
+            queue.clear();
+            queue.add(x);
+            for (int head = 0; head < queue.size(); head++) {
+                X y = queue.get(head);
+                for (E s : generators) {
+                    X z = action.act(s, y);
+                    if (z.equals(y)) {
+                        return false;
+                    }
+                    if (seen.add(z)) {
+                        queue.add(z);
+                    }
+                }
+            }
+            if (queue.size() != n) {
                 return false;
             }
         }
@@ -171,49 +195,372 @@ public final class ActionAnalyzer {
      * @return set of fixed points
      */
     public static <E extends Element, X> Set<X> fixedPoints(Action<E, X> action, E g) {
-        Set<X> fixed = new HashSet<>();
+        return fixedPointStream(action, g).collect(Collectors.toSet());
+    }
+
+    /**
+     * Lazily stream the fixed points of g, e.g. to stop at the first one with
+     * {@code findAny()}.
+     *
+     * @param action the group action
+     * @param g      the group element
+     * @return stream of the x ∈ X with g · x = x
+     */
+    public static <E extends Element, X> Stream<X> fixedPointStream(Action<E, X> action, E g) {
+        return action.set().stream().filter(x -> action.act(g, x).equals(x));
+    }
 
+    /**
+     * Count fixed points of g without collecting them.
+     *
+     * @param action the group action
+     * @param g      the group element
+     * @return |Fix(g)|
+     */
+    public static <E extends Element, X> int fixedPointCount(Action<E, X> action, E g) {
+        int count = 0;
         for (X x : action.set()) {
             if (action.act(g, x).equals(x)) {
-                fixed.add(x);
+                count++;
             }
         }
+        return count;
+    }
 
-        return fixed;
+    /**
+     * Check whether g fixes some point, stopping at the first one.
+     *
+     * @param action the group action
+     * @param g      the group element
+     * @return true if Fix(g) is non-empty
+     */
+    public static <E extends Element, X> boolean hasFixedPoint(Action<E, X> action, E g) {
+        for (X x : action.set()) {
+            if (action.act(g, x).equals(x)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Count fixed points for each group element.
+     * <p>
+     * Conjugate elements have the same number of fixed points, so one count is
+     * made per conjugacy class (see {@link #fixedPointCountsByClass(Action)})
+     * and copied to the other members of the class. The action is applied in
+     * the calling thread.
      *
      * @param action the group action
      * @return map from group element to number of fixed points
      */
     public static <E extends Element, X> Map<E, Integer> fixedPointCounts(Action<E, X> action) {
-        Map<E, Integer> counts = new HashMap<>();
+        return fixedPointCounts(action, false);
+    }
 
-        for (E g : action.group().elements()) {
-            counts.put(g, fixedPoints(action, g).size());
-        }
+    /**
+     * Count fixed points for each group element, optionally processing the
+     * conjugacy classes in parallel. A parallel count applies the action from
+     * several threads, so the action must be thread-safe.
+     *
+     * @param action   the group action
+     * @param parallel true to count the classes in parallel
+     * @return map from group element to number of fixed points
+     */
+    public static <E extends Element, X> Map<E, Integer> fixedPointCounts(Action<E, X> action, boolean parallel) {
+        Classes<E> classes = new Classes<>(IndexedGroup.of(action.group()));
+        return classes.perElement(classes.fixedPoints(action, parallel));
+    }
 
-        return counts;
+    /**
+     * Count fixed points once per conjugacy class.
+     * <p>
+     * Classes are computed by {@link ConjugacyAnalyzer#classLabels(IndexedGroup)},
+     * and fixed points are counted on their representatives without building
+     * sets. The action is applied in the calling thread.
+     *
+     * @param action the group action
+     * @return map from conjugacy class to the number of points fixed by each of
+     *         its elements, in class id order
+     */
+    public static <E extends Element, X> Map<ConjugacyClass<E>, Integer> fixedPointCountsByClass(
+            Action<E, X> action) {
+        return fixedPointCountsByClass(action, false);
+    }
+
+    /**
+     * Count fixed points once per conjugacy class, optionally processing the
+     * classes in parallel. A parallel count applies the action from several
+     * threads, so the action must be thread-safe.
+     *
+     * @param action   the group action
+     * @param parallel true to count the classes in parallel
+     * @return map from conjugacy class to the number of points fixed by each of
+     *         its elements, in class id order
+     */
+    public static <E extends Element, X> Map<ConjugacyClass<E>, Integer> fixedPointCountsByClass(
+            Action<E, X> action, boolean parallel) {
+        Classes<E> classes = new Classes<>(IndexedGroup.of(action.group()));
+        return classes.perClass(action.group(), classes.fixedPoints(action, parallel));
     }
 
     /**
      * Apply Burnside's Lemma: |X/G| = (1/|G|) × Σ |Fix(g)|.
      * <p>
-     * Returns the number of orbits.
+     * Returns the number of orbits. The sum is taken over conjugacy classes as
+     * Σ |cl(g)| · |Fix(g)| in long arithmetic, so only k · |X| applications of
+     * the action are needed for k classes. The action is applied in the calling
+     * thread.
      *
      * @param action the group action
      * @return number of orbits
      */
     public static <E extends Element, X> int burnsideLemma(Action<E, X> action) {
-        int totalFixed = 0;
-        Group<E> group = action.group();
+        return burnsideLemma(action, false);
+    }
+
+    /**
+     * Apply Burnside's Lemma, optionally counting the fixed points of the
+     * conjugacy classes in parallel. A parallel count applies the action from
+     * several threads, so the action must be thread-safe.
+     *
+     * @param action   the group action
+     * @param parallel true to count the classes in parallel
+     * @return number of orbits
+     */
+    public static <E extends Element, X> int burnsideLemma(Action<E, X> action, boolean parallel) {
+        Classes<E> classes = new Classes<>(IndexedGroup.of(action.group()));
+        return classes.burnside(classes.fixedPoints(action, parallel));
+    }
+
+    /** Conjugacy classes of an indexed group as labels, representatives and sizes. */
+    private static final class Classes<E extends Element> {
+        final IndexedGroup<E> group;
+        final int[] classOf;
+        final int[] representatives;
+        final int[] sizes;
+
+        Classes(IndexedGroup<E> group) {
+            this.group = group;
+            this.classOf = ConjugacyAnalyzer.classLabels(group);
+            int k = Arrays.stream(classOf).max().orElse(0) + 1;
+            this.representatives = new int[k];
+            this.sizes = new int[k];
+            Arrays.fill(representatives, -1);
+            for (int g = 0; g < classOf.length; g++) {
+                if (representatives[classOf[g]] < 0) {
+                    representatives[classOf[g]] = g;
+                }
+                sizes[classOf[g]]++;
+            }
+        }
+
+        /**
+         * Evaluate a class function on each representative, in parallel; only
+         * for functions that read immutable tables.
+         */
+        int[] count(IntUnaryOperator onRepresentative) {
+            return IntStream.range(0, representatives.length).parallel()
+                    .map(c -> onRepresentative.applyAsInt(representatives[c])).toArray();
+        }
 
-        for (E g : group.elements()) {
-            totalFixed += fixedPoints(action, g).size();
+        /** |Fix(g)| for the representative g of each class. */
+        <X> int[] fixedPoints(Action<E, X> action, boolean parallel) {
+            IntStream classIds = IntStream.range(0, representatives.length);
+            return (parallel ? classIds.parallel() : classIds)
+                    .map(c -> fixedPointCount(action, group.elementAt(representatives[c]))).toArray();
         }
 
-        return totalFixed / group.order();
+        int burnside(int[] perClass) {
+            long total = 0;
+            for (int c = 0; c < perClass.length; c++) {
+                total += (long) sizes[c] * perClass[c];
+            }
+            return Math.toIntExact(total / group.order());
+        }
+
+        Map<E, Integer> perElement(int[] perClass) {
+            Map<E, Integer> result = new HashMap<>();
+            for (int g = 0; g < classOf.length; g++) {
+                result.put(group.elementAt(g), perClass[classOf[g]]);
+            }
+            return result;
+        }
+
+        Map<ConjugacyClass<E>, Integer> perClass(Group<E> parent, int[] perClass) {
+            List<Set<E>> members = new ArrayList<>();
+            for (int c = 0; c < representatives.length; c++) {
+                members.add(new HashSet<>());
+            }
+            for (int g = 0; g < classOf.length; g++) {
+                members.get(classOf[g]).add(group.elementAt(g));
+            }
+            Map<ConjugacyClass<E>, Integer> result = new LinkedHashMap<>();
+            for (int c = 0; c < representatives.length; c++) {
+                result.put(new ConjugacyClass<>(parent, group.elementAt(representatives[c]), members.get(c)),
+                        perClass[c]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Orbit of an element under a compiled action.
+     *
+     * @param action the compiled action
+     * @param x      the element
+     * @return orbit of x
+     */
+    public static <E extends Element, X> Orbit<X> orbit(CompiledAction<E, X> action, X x) {
+        return toOrbit(action, x, action.orbit(action.indexOf(x)));
+    }
+
+    /**
+     * Partition the set into orbits under a compiled action.
+     *
+     * @param action the compiled action
+     * @return list of all orbits
+     */
+    public static <E extends Element, X> List<Orbit<X>> orbits(CompiledAction<E, X> action) {
+        List<Orbit<X>> orbits = new ArrayList<>();
+        for (BitSet orbit : action.orbits()) {
+            orbits.add(toOrbit(action, action.pointAt(orbit.nextSetBit(0)), orbit));
+        }
+        return orbits;
+    }
+
+    private static <E extends Element, X> Orbit<X> toOrbit(CompiledAction<E, X> action, X x, BitSet ids) {
+        Set<X> elements = new HashSet<>();
+        ids.stream().forEach(p -> elements.add(action.pointAt(p)));
+        return new Orbit<>(x, elements);
+    }
+
+    /**
+     * Stabilizer of an element under a compiled action.
+     *
+     * @param action the compiled action
+     * @param x      the element
+     * @return stabilizer subgroup
+     */
+    public static <E extends Element, X> Subgroup<E> stabilizer(CompiledAction<E, X> action, X x) {
+        IndexedGroup<E> group = action.group();
+        return new Subgroup<>(action.action().group(), group.elementsOf(action.stabilizer(action.indexOf(x))));
+    }
+
+    /**
+     * Verify the Orbit-Stabilizer Theorem under a compiled action.
+     *
+     * @param action the compiled action
+     * @param x      the element
+     * @return true if theorem holds
+     */
+    public static <E extends Element, X> boolean verifyOrbitStabilizer(CompiledAction<E, X> action, X x) {
+        int p = action.indexOf(x);
+        return action.orbit(p).cardinality() * action.stabilizer(p).cardinality() == action.group().order();
+    }
+
+    /**
+     * Check if a compiled action is transitive.
+     *
+     * @param action the compiled action
+     * @return true if G acts transitively on X
+     */
+    public static <E extends Element, X> boolean isTransitive(CompiledAction<E, X> action) {
+        return action.isTransitive();
+    }
+
+    /**
+     * Check if a compiled action is free.
+     *
+     * @param action the compiled action
+     * @return true if Stab(x) = {e} for all x
+     */
+    public static <E extends Element, X> boolean isFree(CompiledAction<E, X> action) {
+        return action.isFree();
+    }
+
+    /**
+     * Fixed points of g under a compiled action.
+     *
+     * @param action the compiled action
+     * @param g      the group element
+     * @return set of fixed points
+     */
+    public static <E extends Element, X> Set<X> fixedPoints(CompiledAction<E, X> action, E g) {
+        Set<X> fixed = new HashSet<>();
+        action.fixedPoints(action.group().indexOf(g)).stream().forEach(p -> fixed.add(action.pointAt(p)));
+        return fixed;
+    }
+
+    /**
+     * Number of fixed points of each group element under a compiled action,
+     * counted once per conjugacy class.
+     *
+     * @param action the compiled action
+     * @return map from group element to number of fixed points
+     */
+    public static <E extends Element, X> Map<E, Integer> fixedPointCounts(CompiledAction<E, X> action) {
+        Classes<E> classes = new Classes<>(action.group());
+        return classes.perElement(classes.count(action::fixedPointCount));
+    }
+
+    /**
+     * Number of fixed points per conjugacy class under a compiled action.
+     *
+     * @param action the compiled action
+     * @return map from conjugacy class to the number of points fixed by each of
+     *         its elements, in class id order
+     */
+    public static <E extends Element, X> Map<ConjugacyClass<E>, Integer> fixedPointCountsByClass(
+            CompiledAction<E, X> action) {
+        Classes<E> classes = new Classes<>(action.group());
+        return classes.perClass(action.action().group(), classes.count(action::fixedPointCount));
+    }
+
+    /**
+     * Burnside's Lemma on a compiled action, summed over conjugacy classes.
+     *
+     * @param action the compiled action
+     * @return number of orbits
+     */
+    public static <E extends Element, X> int burnsideLemma(CompiledAction<E, X> action) {
+        Classes<E> classes = new Classes<>(action.group());
+        return classes.burnside(classes.count(action::fixedPointCount));
+    }
+
+    /**
+     * Minimal block system of a transitive compiled action in which x and y
+     * share a block (see {@link BlockSystem}).
+     *
+     * @param action the compiled action
+     * @param x      a point
+     * @param y      another point
+     * @return the block system
+     * @throws IllegalArgumentException if the action is not transitive
+     */
+    public static <E extends Element, X> BlockSystem minimalBlockSystem(CompiledAction<E, X> action, X x, X y) {
+        return BlockSystem.minimal(action, x, y);
+    }
+
+    /**
+     * Check if a transitive compiled action is primitive.
+     *
+     * @param action the compiled action
+     * @return true if the only block systems are the trivial ones
+     * @throws IllegalArgumentException if the action is not transitive
+     */
+    public static <E extends Element, X> boolean isPrimitive(CompiledAction<E, X> action) {
+        return BlockSystem.isPrimitive(action);
+    }
+
+    /**
+     * All nontrivial block systems of a transitive compiled action.
+     *
+     * @param action the compiled action
+     * @return block systems by ascending block size
+     * @throws IllegalArgumentException if the action is not transitive
+     */
+    public static <E extends Element, X> List<BlockSystem> blockSystems(CompiledAction<E, X> action) {
+        return BlockSystem.all(action);
     }
 }
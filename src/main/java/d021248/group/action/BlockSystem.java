@@ -0,0 +1,428 @@
+package d021248.group.action;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import d021248.group.api.Element;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+
+/**
+ * A block system of a transitive permutation action: a partition of the
+ * points into blocks of equal size that every group element maps onto blocks.
+ * <p>
+ * The algorithms work on the generator permutations of points 0..n-1 only.
+ * The minimal block system in which two points a, b share a block is found
+ * with the union-find algorithm of Atkinson: merge a and b, and whenever two
+ * classes are merged, merge the classes of their images under every
+ * generator. At most n-1 merges happen, so this costs O(n · k · α(n)) for k
+ * generators.
+ * </p>
+ * <p>
+ * The action is primitive iff the minimal block system for {0, b} is trivial
+ * for every b ≠ 0. Elements h of the stabilizer of 0 map the minimal block of
+ * {0, b} onto that of {0, h(b)}, which is the same block, so only one b per
+ * orbit of a subgroup H ≤ Stab(0) is tested. H is generated by powers of a
+ * few pseudo-random group elements that fix 0, so a 2-transitive action of
+ * degree 10⁵ is typically decided with a single union-find pass. Transitive
+ * actions of prime degree are primitive without any search. Every block
+ * containing 0 is a join of such minimal blocks, which gives the enumeration
+ * of all block systems.
+ * </p>
+ *
+ * <pre>{@code
+ * PermutationGroup d4 = PermutationGroup.of(
+ *         new Permutation(new int[] { 2, 3, 4, 1 }), new Permutation(new int[] { 1, 4, 3, 2 }));
+ * System.out.println(BlockSystem.isPrimitive(d4));          // false
+ * System.out.println(BlockSystem.minimal(d4, 1, 3).blocks()); // [{0, 2}, {1, 3}]
+ * }</pre>
+ */
+public final class BlockSystem {
+    private static final int POOL_SIZE = 10;
+    private static final int MIXING_STEPS = 100;
+    private static final int STABILIZER_SAMPLES = 16;
+
+    private final int[] blockOf;
+    private final int blockCount;
+
+    private BlockSystem(int[] blockOf, int blockCount) {
+        this.blockOf = blockOf;
+        this.blockCount = blockCount;
+    }
+
+    /** Number of points n. */
+    public int degree() {
+        return blockOf.length;
+    }
+
+    /** Number of blocks. */
+    public int blockCount() {
+        return blockCount;
+    }
+
+    /** Number of points per block. */
+    public int blockSize() {
+        return blockOf.length / blockCount;
+    }
+
+    /** Id of the block containing the (0-based) point p; block 0 contains 0. */
+    public int blockOf(int p) {
+        return blockOf[p];
+    }
+
+    /** The blocks as bit sets of 0-based points, by block id. */
+    public List<BitSet> blocks() {
+        List<BitSet> blocks = new ArrayList<>();
+        for (int b = 0; b < blockCount; b++) {
+            blocks.add(new BitSet(blockOf.length));
+        }
+        for (int p = 0; p < blockOf.length; p++) {
+            blocks.get(blockOf[p]).set(p);
+        }
+        return blocks;
+    }
+
+    /** True for the systems of singletons and of the single block X. */
+    public boolean isTrivial() {
+        return blockCount == 1 || blockCount == blockOf.length;
+    }
+
+    /**
+     * The minimal block system in which the 0-based points a and b share a
+     * block.
+     *
+     * @param generators permutations of 0..n-1 generating a transitive group
+     * @throws IllegalArgumentException if the group is not transitive
+     */
+    public static BlockSystem minimal(int[][] generators, int a, int b) {
+        int n = checkTransitive(generators);
+        UnionFind classes = new UnionFind(n);
+        classes.merge(generators, a, b);
+        return classes.toBlockSystem();
+    }
+
+    /** The minimal block system of a compiled action in which x and y share a block. */
+    public static <E extends Element, X> BlockSystem minimal(CompiledAction<E, X> action, X x, X y) {
+        return minimal(generators(action), action.indexOf(x), action.indexOf(y));
+    }
+
+    /** The minimal block system in which the 1-based points a and b share a block. */
+    public static BlockSystem minimal(PermutationGroup group, int a, int b) {
+        return minimal(generators(group), a - 1, b - 1);
+    }
+
+    /** True if the transitive action has no nontrivial block system. */
+    public static boolean isPrimitive(int[][] generators) {
+        int n = checkTransitive(generators);
+        if (BigInteger.valueOf(n).isProbablePrime(30)) {
+            // block sizes divide n
+            return true;
+        }
+        for (int b : candidates(generators, n)) {
+            UnionFind classes = new UnionFind(n);
+            classes.merge(generators, 0, b);
+            if (classes.count > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** True if the transitive compiled action is primitive. */
+    public static <E extends Element, X> boolean isPrimitive(CompiledAction<E, X> action) {
+        return isPrimitive(generators(action));
+    }
+
+    /** True if the transitive permutation group is primitive on its points. */
+    public static boolean isPrimitive(PermutationGroup group) {
+        return isPrimitive(generators(group));
+    }
+
+    /**
+     * All nontrivial block systems, by ascending block size.
+     *
+     * @param generators permutations of 0..n-1 generating a transitive group
+     * @throws IllegalArgumentException if the group is not transitive
+     */
+    public static List<BlockSystem> all(int[][] generators) {
+        int n = checkTransitive(generators);
+        // blocks containing 0, as bit sets; start with the minimal ones
+        Set<BitSet> blocks = new LinkedHashSet<>();
+        for (int b : candidates(generators, n)) {
+            UnionFind classes = new UnionFind(n);
+            classes.merge(generators, 0, b);
+            if (classes.count > 1) {
+                blocks.add(classes.classOf(0));
+            }
+        }
+        // close under joins
+        List<BitSet> queue = new ArrayList<>(blocks);
+        for (int i = 0; i < queue.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                UnionFind classes = new UnionFind(n);
+                BitSet union = (BitSet) queue.get(i).clone();
+                union.or(queue.get(j));
+                union.stream().forEach(p -> classes.merge(generators, 0, p));
+                if (classes.count > 1 && blocks.add(classes.classOf(0))) {
+                    queue.add(classes.classOf(0));
+                }
+            }
+        }
+        List<BlockSystem> result = new ArrayList<>();
+        for (BitSet block : blocks) {
+            UnionFind classes = new UnionFind(n);
+            block.stream().forEach(p -> classes.merge(generators, 0, p));
+            result.add(classes.toBlockSystem());
+        }
+        result.sort(Comparator.comparingInt(BlockSystem::blockSize));
+        return result;
+    }
+
+    /** All nontrivial block systems of a transitive compiled action. */
+    public static <E extends Element, X> List<BlockSystem> all(CompiledAction<E, X> action) {
+        return all(generators(action));
+    }
+
+    /** All nontrivial block systems of a transitive permutation group. */
+    public static List<BlockSystem> all(PermutationGroup group) {
+        return all(generators(group));
+    }
+
+    private static <E extends Element, X> int[][] generators(CompiledAction<E, X> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        int[] gens = action.group().generators();
+        int[][] result = new int[gens.length][];
+        for (int s = 0; s < gens.length; s++) {
+            result[s] = action.permutation(gens[s]);
+        }
+        return result;
+    }
+
+    private static int[][] generators(PermutationGroup group) {
+        Objects.requireNonNull(group, "Group cannot be null");
+        List<Permutation> gens = group.generators();
+        int[][] result = new int[gens.size()][];
+        for (int s = 0; s < result.length; s++) {
+            result[s] = gens.get(s).mapping();
+            for (int p = 0; p < result[s].length; p++) {
+                result[s][p]--;
+            }
+        }
+        return result;
+    }
+
+    /** The degree n, after checking that the orbit of 0 is all of 0..n-1. */
+    private static int checkTransitive(int[][] generators) {
+        Objects.requireNonNull(generators, "Generators cannot be null");
+        if (generators.length == 0) {
+            throw new IllegalArgumentException("Action must be transitive");
+        }
+        int n = generators[0].length;
+        BitSet seen = new BitSet(n);
+        int[] queue = new int[n];
+        int tail = 0;
+        seen.set(0);
+        queue[tail++] = 0;
+        for (int head = 0; head < tail; head++) {
+            for (int[] s : generators) {
+                if (s.length != n) {
+                    throw new IllegalArgumentException("Generators must have equal degree");
+                }
+                int q = s[queue[head]];
+                if (!seen.get(q)) {
+                    seen.set(q);
+                    queue[tail++] = q;
+                }
+            }
+        }
+        if (tail != n) {
+            throw new IllegalArgumentException("Action must be transitive");
+        }
+        return n;
+    }
+
+    /**
+     * One point b ≠ 0 per orbit of a subgroup H ≤ Stab(0). H is generated by
+     * w^L for pseudo-random elements w, where L is the length of the cycle of w
+     * through 0; a smaller H only means more candidates. The elements w come
+     * from product replacement: a pool seeded with the generators is mixed by
+     * replacing a random member with its product with another one.
+     */
+    private static int[] candidates(int[][] generators, int n) {
+        SplittableRandom random = new SplittableRandom(n);
+        int[][] pool = new int[Math.max(POOL_SIZE, generators.length)][];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = generators[i % generators.length].clone();
+        }
+        List<int[]> stabilizer = new ArrayList<>();
+        for (int step = 0; step < MIXING_STEPS + STABILIZER_SAMPLES; step++) {
+            int a = random.nextInt(pool.length);
+            int b = random.nextInt(pool.length - 1);
+            int[] product = new int[n];
+            int[] left = pool[a];
+            int[] right = pool[b < a ? b : b + 1];
+            for (int p = 0; p < n; p++) {
+                product[p] = left[right[p]];
+            }
+            pool[a] = product;
+            if (step >= MIXING_STEPS) {
+                int[] power = powerFixingZero(product);
+                if (power != null) {
+                    stabilizer.add(power);
+                }
+            }
+        }
+        BitSet seen = new BitSet(n);
+        seen.set(0);
+        int[] queue = new int[n];
+        List<Integer> representatives = new ArrayList<>();
+        for (int b = 1; b < n; b++) {
+            if (seen.get(b)) {
+                continue;
+            }
+            representatives.add(b);
+            int tail = 0;
+            seen.set(b);
+            queue[tail++] = b;
+            for (int head = 0; head < tail; head++) {
+                for (int[] h : stabilizer) {
+                    int q = h[queue[head]];
+                    if (!seen.get(q)) {
+                        seen.set(q);
+                        queue[tail++] = q;
+                    }
+                }
+            }
+        }
+        return representatives.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** w^L for L the length of the cycle of w through 0, or null if trivial. */
+    private static int[] powerFixingZero(int[] w) {
+        int n = w.length;
+        int length = 1;
+        for (int p = w[0]; p != 0; p = w[p]) {
+            length++;
+        }
+        int[] result = new int[n];
+        boolean[] done = new boolean[n];
+        boolean trivial = true;
+        int[] cycle = new int[n];
+        for (int start = 0; start < n; start++) {
+            if (done[start]) {
+                continue;
+            }
+            int c = 0;
+            for (int p = start; !done[p]; p = w[p]) {
+                done[p] = true;
+                cycle[c++] = p;
+            }
+            int shift = length % c;
+            for (int i = 0; i < c; i++) {
+                result[cycle[i]] = cycle[(i + shift) % c];
+            }
+            trivial &= shift == 0;
+        }
+        return trivial ? null : result;
+    }
+
+    /** Union-find over points with Atkinson's closure under the generators. */
+    private static final class UnionFind {
+        private final int[] parent;
+        private final int[] queue;
+        private final int[] mergedInto;
+        private int head;
+        private int tail;
+        private int count;
+
+        UnionFind(int n) {
+            this.parent = new int[n];
+            Arrays.setAll(parent, p -> p);
+            this.queue = new int[n];
+            this.mergedInto = new int[n];
+            this.count = n;
+        }
+
+        int find(int p) {
+            while (parent[p] != p) {
+                parent[p] = parent[parent[p]];
+                p = parent[p];
+            }
+            return p;
+        }
+
+        /** Merge the classes of a and b, then propagate until the partition is a block system. */
+        void merge(int[][] generators, int a, int b) {
+            union(a, b);
+            while (head < tail) {
+                int x = queue[head];
+                int y = mergedInto[head++];
+                for (int[] s : generators) {
+                    union(s[x], s[y]);
+                }
+            }
+        }
+
+        private void union(int a, int b) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb) {
+                return;
+            }
+            parent[rb] = ra;
+            queue[tail] = rb;
+            mergedInto[tail++] = ra;
+            count--;
+        }
+
+        BitSet classOf(int p) {
+            int root = find(p);
+            BitSet result = new BitSet(parent.length);
+            for (int q = 0; q < parent.length; q++) {
+                if (find(q) == root) {
+                    result.set(q);
+                }
+            }
+            return result;
+        }
+
+        BlockSystem toBlockSystem() {
+            int n = parent.length;
+            int[] idOfRoot = new int[n];
+            Arrays.fill(idOfRoot, -1);
+            int[] blockOf = new int[n];
+            int ids = 0;
+            for (int p = 0; p < n; p++) {
+                int root = find(p);
+                if (idOfRoot[root] < 0) {
+                    idOfRoot[root] = ids++;
+                }
+                blockOf[p] = idOfRoot[root];
+            }
+            return new BlockSystem(blockOf, ids);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof BlockSystem other && Arrays.equals(blockOf, other.blockOf));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(blockOf);
+    }
+
+    @Override
+    public String toString() {
+        return blocks().toString();
+    }
+}
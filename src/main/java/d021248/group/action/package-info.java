@@ -84,6 +84,12 @@
  * @see d021248.group.action.GroupAction
  * @see d021248.group.action.Action
  * @see d021248.group.action.Orbit
+ * @see d021248.group.action.SchreierOrbit
+ * @see d021248.group.action.CompiledAction
+ * @see d021248.group.action.CycleIndex
+ * @see d021248.group.action.InducedActions
+ * @see d021248.group.action.BlockSystem
+ * @see d021248.group.action.MinimalImage
  * @see d021248.group.action.ActionAnalyzer
  */
 package d021248.group.action;
@@ -4,6 +4,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import d021248.group.Group;
+import d021248.group.IndexedGroup;
 import d021248.group.api.Element;
 import d021248.group.homomorphism.GroupHomomorphism;
 import d021248.group.homomorphism.Homomorphism;
@@ -11,12 +12,31 @@ import d021248.group.homomorphism.HomomorphismAnalyzer;
 
 /**
  * Utility class for computing and analyzing automorphisms.
+ * <p>
+ * Automorphisms backed by a {@link TabulatedAutomorphism} (see
+ * {@link #tabulate(Automorphism)}) are handled by table operations: inverse and
+ * composition are O(n), equality compares generator images, and sets of them
+ * deduplicate equal maps.
+ * </p>
+ * <p>
+ * Lambda-backed automorphisms are tabulated over an {@link IndexedGroup}. An
+ * automorphism that is already tabulated supplies its own index, and a group
+ * passed as an {@code IndexedGroup} is not indexed again. To work with many
+ * automorphisms of one group, index it once and pass the index to
+ * {@link #tabulate(IndexedGroup, Automorphism)} and
+ * {@link #isInner(IndexedGroup, Automorphism)}.
+ * </p>
  */
 public final class AutomorphismAnalyzer {
 
     private AutomorphismAnalyzer() {
     }
 
+    /** True if the index is the group itself or wraps it. */
+    private static boolean indexes(IndexedGroup<?> index, Group<?> group) {
+        return index == group || index.group() == group;
+    }
+
     /**
      * Verify that a mapping is a valid automorphism.
      * <p>
@@ -26,11 +46,69 @@ public final class AutomorphismAnalyzer {
      * @return true if it's a valid automorphism
      */
     public static <E extends Element> boolean isAutomorphism(Automorphism<E> auto) {
+        if (auto.mapping() instanceof TabulatedAutomorphism<E> tabulated
+                && indexes(tabulated.group(), auto.group())) {
+            return true; // verified when the table was built
+        }
         Homomorphism<E, E> homo = new Homomorphism<>(auto.group(), auto.group(), auto);
         return HomomorphismAnalyzer.isHomomorphism(homo) &&
                 HomomorphismAnalyzer.isIsomorphism(homo);
     }
 
+    /**
+     * Evaluate an automorphism once on every element and return an equivalent
+     * automorphism backed by a {@link TabulatedAutomorphism}.
+     *
+     * @param auto the automorphism
+     * @return the tabulated automorphism (or {@code auto} if already tabulated)
+     * @throws IllegalArgumentException if the map is not an automorphism
+     */
+    public static <E extends Element> Automorphism<E> tabulate(Automorphism<E> auto) {
+        if (auto.mapping() instanceof TabulatedAutomorphism<E>) {
+            return auto;
+        }
+        return TabulatedAutomorphism.of(IndexedGroup.of(auto.group()), auto).toAutomorphism();
+    }
+
+    /**
+     * Tabulate an automorphism over a given index of its group, so that many
+     * automorphisms of one group share a single index.
+     *
+     * <pre>{@code
+     * IndexedGroup<Permutation> s4 = IndexedGroup.of(new SymmetricGroup(4));
+     * Automorphism<Permutation> phi = AutomorphismAnalyzer.tabulate(s4, auto);
+     * }</pre>
+     *
+     * @param group an index of the automorphism's group
+     * @param auto  the automorphism
+     * @return the tabulated automorphism (or {@code auto} if already tabulated
+     *         over {@code group})
+     * @throws IllegalArgumentException if {@code group} does not index the
+     *                                  automorphism's group, or the map is not
+     *                                  an automorphism
+     */
+    public static <E extends Element> Automorphism<E> tabulate(IndexedGroup<E> group, Automorphism<E> auto) {
+        if (!indexes(group, auto.group())) {
+            throw new IllegalArgumentException("Index does not belong to the automorphism's group");
+        }
+        if (auto.mapping() instanceof TabulatedAutomorphism<E> tabulated && tabulated.group() == group) {
+            return auto;
+        }
+        return TabulatedAutomorphism.of(group, auto).toAutomorphism();
+    }
+
+    /**
+     * Compute the full automorphism group Aut(G) as a permutation group on the
+     * element ids of G.
+     *
+     * @param group the group
+     * @return Aut(G)
+     * @see AutomorphismGroup
+     */
+    public static <E extends Element> AutomorphismGroup<E> automorphismGroup(Group<E> group) {
+        return new AutomorphismGroup<>(group);
+    }
+
     /**
      * Compute the inner automorphism induced by an element.
      * <p>
@@ -49,16 +127,20 @@ public final class AutomorphismAnalyzer {
     /**
      * Compute all inner automorphisms Inn(G).
      * <p>
-     * Inn(G) = {Inn_g | g ∈ G}
+     * Inn(G) = {Inn_g | g ∈ G}. The automorphisms are tabulated over a shared
+     * index, so equal maps coincide and the set has exactly |G|/|Z(G)|
+     * elements. If {@code group} is an {@link IndexedGroup}, that index is
+     * shared and the automorphisms act on the group it wraps.
      *
      * @param group the group
-     * @return set of all inner automorphisms
+     * @return set of all distinct inner automorphisms
      */
     public static <E extends Element> Set<Automorphism<E>> innerAutomorphisms(Group<E> group) {
+        IndexedGroup<E> indexed = IndexedGroup.of(group);
         Set<Automorphism<E>> inner = new HashSet<>();
 
-        for (E g : group.elements()) {
-            inner.add(innerAutomorphism(group, g));
+        for (int g = 0; g < indexed.order(); g++) {
+            inner.add(TabulatedAutomorphism.inner(indexed, g).toAutomorphism());
         }
 
         return inner;
@@ -75,6 +157,10 @@ public final class AutomorphismAnalyzer {
         if (!auto1.group().equals(auto2.group())) {
             return false;
         }
+        if (auto1.mapping() instanceof TabulatedAutomorphism<E> t1
+                && auto2.mapping() instanceof TabulatedAutomorphism<E> t2) {
+            return t1.equals(t2);
+        }
 
         for (E element : auto1.group().elements()) {
             if (!auto1.apply(element).equals(auto2.apply(element))) {
@@ -87,15 +173,29 @@ public final class AutomorphismAnalyzer {
 
     /**
      * Compose two automorphisms: (φ ∘ ψ)(x) = φ(ψ(x)).
+     * <p>
+     * If either is tabulated, the other is tabulated over the same index and the
+     * tables are composed, so repeated composition never nests lambdas. If
+     * neither is, the maps are composed without evaluation or validation.
+     * </p>
      *
      * @param phi first automorphism
      * @param psi second automorphism
      * @return composition
+     * @throws IllegalArgumentException if the automorphisms act on different
+     *                                  groups, or one is tabulated and the
+     *                                  other is not an automorphism
      */
     public static <E extends Element> Automorphism<E> compose(Automorphism<E> phi, Automorphism<E> psi) {
         if (!phi.group().equals(psi.group())) {
             throw new IllegalArgumentException("Automorphisms must act on the same group");
         }
+        if (phi.mapping() instanceof TabulatedAutomorphism<E> t1) {
+            return new Automorphism<>(phi.group(), t1.compose(TabulatedAutomorphism.of(t1.group(), psi)));
+        }
+        if (psi.mapping() instanceof TabulatedAutomorphism<E> t2) {
+            return new Automorphism<>(phi.group(), TabulatedAutomorphism.of(t2.group(), phi).compose(t2));
+        }
 
         GroupHomomorphism<E, E> mapping = e -> phi.apply(psi.apply(e));
         return new Automorphism<>(phi.group(), mapping);
@@ -115,105 +215,154 @@ public final class AutomorphismAnalyzer {
     /**
      * Compute the inverse of an automorphism.
      * <p>
-     * Since automorphisms are bijective, the inverse exists.
+     * The automorphism is tabulated (if it is not already) and the table is
+     * inverted in one O(n) pass.
      *
      * @param auto the automorphism
      * @return inverse automorphism
+     * @throws IllegalArgumentException if the map is not an automorphism
      */
     public static <E extends Element> Automorphism<E> inverse(Automorphism<E> auto) {
-        Group<E> group = auto.group();
-
-        GroupHomomorphism<E, E> mapping = target -> {
-            for (E source : group.elements()) {
-                if (auto.apply(source).equals(target)) {
-                    return source;
-                }
-            }
-            throw new IllegalStateException("Automorphism is not surjective");
-        };
-
-        return new Automorphism<>(group, mapping);
+        TabulatedAutomorphism<E> tabulated = (TabulatedAutomorphism<E>) tabulate(auto).mapping();
+        return new Automorphism<>(auto.group(), tabulated.inverse());
     }
 
     /**
      * Check if an automorphism is inner.
      * <p>
-     * An automorphism φ is inner if φ = Inn_g for some g ∈ G.
+     * An automorphism φ is inner if φ = Inn_x for some x ∈ G. Since both maps
+     * are determined by the images of a generating set g₁..gₖ, this searches for
+     * a conjugacy witness: the candidates x with x g₁ x⁻¹ = φ(g₁) are collected
+     * in one pass over G and then filtered by x gᵢ x⁻¹ = φ(gᵢ) for the remaining
+     * generators.
+     * </p>
+     * <p>
+     * <b>Performance:</b> O(|G| · |gens|) products. A tabulated φ is evaluated
+     * on the generators only and supplies the index and generating set of G;
+     * any other map is checked against the surviving witness on all elements
+     * once, after indexing G (|G| inverses) and choosing its generating set
+     * (O(|G| · |gens|²) products). Both are kept by the index, so callers
+     * checking many maps should pass one to
+     * {@link #isInner(IndexedGroup, Automorphism)}.
+     * </p>
      *
      * @param auto the automorphism
      * @return true if inner
      */
     public static <E extends Element> boolean isInner(Automorphism<E> auto) {
-        Set<Automorphism<E>> innerAutos = innerAutomorphisms(auto.group());
+        IndexedGroup<E> group = auto.mapping() instanceof TabulatedAutomorphism<E> tabulated
+                && indexes(tabulated.group(), auto.group()) ? tabulated.group() : IndexedGroup.of(auto.group());
+        return isInnerOver(group, auto);
+    }
 
-        for (Automorphism<E> inner : innerAutos) {
-            if (areEqual(auto, inner)) {
-                return true;
-            }
+    /**
+     * Check if an automorphism is inner, using a given index of its group and
+     * the generating set cached by that index.
+     *
+     * @param group an index of the automorphism's group
+     * @param auto  the automorphism
+     * @return true if inner
+     * @throws IllegalArgumentException if {@code group} does not index the
+     *                                  automorphism's group
+     * @see #isInner(Automorphism)
+     */
+    public static <E extends Element> boolean isInner(IndexedGroup<E> group, Automorphism<E> auto) {
+        if (!indexes(group, auto.group())) {
+            throw new IllegalArgumentException("Index does not belong to the automorphism's group");
         }
+        return isInnerOver(group, auto);
+    }
 
-        return false;
+    private static <E extends Element> boolean isInnerOver(IndexedGroup<E> group, Automorphism<E> auto) {
+        int[] gens = group.generators();
+        int n = group.order();
+        int[] witnesses = new int[n];
+        int count = 0;
+        for (int x = 0; x < n; x++) {
+            witnesses[count++] = x;
+        }
+        for (int g : gens) {
+            E image = auto.apply(group.elementAt(g));
+            if (!group.contains(image)) {
+                return false;
+            }
+            int target = group.indexOf(image);
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (group.conjugate(g, witnesses[i]) == target) {
+                    witnesses[kept++] = witnesses[i];
+                }
+            }
+            count = kept;
+            if (count == 0) {
+                return false;
+            }
+        }
+        if (auto.mapping() instanceof TabulatedAutomorphism<E> tabulated
+                && indexes(tabulated.group(), auto.group())) {
+            return true; // a homomorphism is determined by the generator images
+        }
+        // an arbitrary map may agree with Inn_x on the generators only
+        int x = witnesses[0];
+        for (int y = 0; y < n; y++) {
+            if (!auto.apply(group.elementAt(y)).equals(group.elementAt(group.conjugate(y, x)))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Count the number of distinct inner automorphisms.
      * <p>
-     * |Inn(G)| = |G| / |Z(G)| where Z(G) is the center.
+     * |Inn(G)| = |G| / |Z(G)| where Z(G) is the center, since Inn(G) ≅ G/Z(G).
+     * </p>
+     * <p>
+     * <b>Performance:</b> O(|G| · |gens|) products, since an element is central
+     * iff it commutes with every generator, after indexing G (|G| inverses) and
+     * choosing its generating set (O(|G| · |gens|²) products). No Cayley table
+     * is built. Passing an {@link IndexedGroup} skips the indexing and reuses
+     * its generating set.
+     * </p>
      *
      * @param group the group
      * @return number of distinct inner automorphisms
      */
     public static <E extends Element> int countDistinctInnerAutomorphisms(Group<E> group) {
-        Set<Automorphism<E>> innerSet = innerAutomorphisms(group);
-        Set<Automorphism<E>> distinct = new HashSet<>();
-
-        for (Automorphism<E> auto : innerSet) {
-            boolean found = false;
-            for (Automorphism<E> existing : distinct) {
-                if (areEqual(auto, existing)) {
-                    found = true;
+        IndexedGroup<E> indexed = IndexedGroup.of(group);
+        return indexed.order() / centerOrder(indexed);
+    }
+
+    /** |Z(G)|, counting the elements that commute with every generator. */
+    private static <E extends Element> int centerOrder(IndexedGroup<E> group) {
+        int[] gens = group.generators();
+        int count = 0;
+        for (int x = 0; x < group.order(); x++) {
+            boolean central = true;
+            for (int s : gens) {
+                if (group.multiply(x, s) != group.multiply(s, x)) {
+                    central = false;
                     break;
                 }
             }
-            if (!found) {
-                distinct.add(auto);
+            if (central) {
+                count++;
             }
         }
-
-        return distinct.size();
+        return count;
     }
 
     /**
      * Check if the group is complete (Z(G) = {e} and every automorphism is inner).
      * <p>
      * Complete groups satisfy: Aut(G) = Inn(G) and Z(G) = {e}.
-     * This implementation only checks if Z(G) = {e}.
+     * This implementation only checks if Z(G) = {e}, at the cost of
+     * {@link #countDistinctInnerAutomorphisms(Group)}.
      *
      * @param group the group
      * @return true if center is trivial
      */
     public static <E extends Element> boolean isComplete(Group<E> group) {
-        E identity = group.identity();
-
-        for (E g : group.elements()) {
-            if (g.equals(identity)) {
-                continue;
-            }
-
-            // Check if g commutes with all elements
-            boolean inCenter = true;
-            for (E h : group.elements()) {
-                if (!group.operate(g, h).equals(group.operate(h, g))) {
-                    inCenter = false;
-                    break;
-                }
-            }
-
-            if (inCenter) {
-                return false; // Found non-identity element in center
-            }
-        }
-
-        return true; // Center is trivial
+        return centerOrder(IndexedGroup.of(group)) == 1;
     }
 }
@@ -0,0 +1,265 @@
+package d021248.group.automorphism;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.conjugacy.ConjugacyAnalyzer;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+import d021248.group.util.Constants;
+
+/**
+ * The full automorphism group Aut(G) of a finite group, represented as a
+ * permutation group on the element ids of G.
+ * <p>
+ * An automorphism α is stored as the permutation of points 1..|G| sending
+ * id(g) + 1 to id(α(g)) + 1. Since an automorphism is determined by the
+ * images of a generating set g₁..gₖ, these generator ids form a base of the
+ * resulting {@link PermutationGroup}, and order and membership of Aut(G) come
+ * from its stabilizer chain.
+ * </p>
+ * <p>
+ * The chain is built bottom-up, level i running from k-1 down to 0: every
+ * element with the same order and conjugacy class size as gᵢ that is not yet
+ * in the basic orbit of level i is tried as an image of gᵢ (with g₁..gᵢ₋₁
+ * fixed). The remaining generator images are found by backtracking, checking
+ * each partial assignment by a breadth-first search over the generated
+ * subgroup for consistency and injectivity, i.e. on all relators. Each
+ * automorphism found is added as a generator, which enlarges the orbit and
+ * skips all further candidates in it.
+ * </p>
+ *
+ * <pre>{@code
+ * AutomorphismGroup<Permutation> aut = new AutomorphismGroup<>(new SymmetricGroup(6));
+ * System.out.println(aut.order());      // 1440
+ * System.out.println(aut.outerOrder()); // 2
+ * }</pre>
+ *
+ * @param <E> element type of the group
+ */
+public final class AutomorphismGroup<E extends Element> {
+    private final IndexedGroup<E> group;
+    private final int[] generators;
+    private final long[] tag;
+    private final PermutationGroup automorphisms;
+    private PermutationGroup inner;
+
+    /**
+     * Compute Aut(G).
+     *
+     * @param group the group G
+     */
+    public AutomorphismGroup(Group<E> group) {
+        this.group = IndexedGroup.of(Objects.requireNonNull(group, Constants.NULL_GROUP));
+        this.generators = this.group.generators();
+        int n = this.group.order();
+        int[] classOf = ConjugacyAnalyzer.classLabels(this.group);
+        int[] classSizes = new int[n];
+        for (int c : classOf) {
+            classSizes[c]++;
+        }
+        this.tag = new long[n];
+        for (int x = 0; x < n; x++) {
+            tag[x] = ((long) this.group.elementOrder(x) << 32) | classSizes[classOf[x]];
+        }
+        this.automorphisms = search();
+    }
+
+    private PermutationGroup search() {
+        int n = group.order();
+        int k = generators.length;
+        int[] base = Arrays.stream(generators).map(g -> g + 1).toArray();
+        int[][] candidates = new int[k][];
+        for (int i = 0; i < k; i++) {
+            long wanted = tag[generators[i]];
+            candidates[i] = IntStream.range(0, n).filter(y -> tag[y] == wanted).toArray();
+        }
+
+        List<Permutation> found = new ArrayList<>();
+        PermutationGroup current = new PermutationGroup(n, found, base);
+        for (int level = k - 1; level >= 0; level--) {
+            for (int candidate : candidates[level]) {
+                if (current.transversal(level, candidate + 1) != null) {
+                    continue;
+                }
+                int[] images = generators.clone();
+                images[level] = candidate;
+                if (extend(images, level + 1) == null) {
+                    continue;
+                }
+                int[] table = complete(images, level + 1, candidates);
+                if (table != null) {
+                    found.add(toPermutation(table));
+                    current = new PermutationGroup(n, found, base);
+                }
+            }
+        }
+        return current;
+    }
+
+    /** Backtrack over the images of generators {@code level..k-1}. */
+    private int[] complete(int[] images, int level, int[][] candidates) {
+        if (level == generators.length) {
+            return extend(images, level);
+        }
+        for (int candidate : candidates[level]) {
+            images[level] = candidate;
+            if (extend(images, level + 1) == null) {
+                continue;
+            }
+            int[] result = complete(images, level + 1, candidates);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extend the images of the first {@code count} generators over the subgroup
+     * they generate, checking every Cayley-graph edge for consistency and
+     * injectivity.
+     *
+     * @return the id table on ⟨g₁..g_count⟩ (-1 elsewhere), or null on conflict
+     */
+    private int[] extend(int[] images, int count) {
+        int n = group.order();
+        int[] map = new int[n];
+        Arrays.fill(map, -1);
+        BitSet used = new BitSet(n);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        int e = group.identityIndex();
+        map[e] = e;
+        used.set(e);
+        queue[tail++] = e;
+        while (head < tail) {
+            int x = queue[head++];
+            for (int s = 0; s < count; s++) {
+                int y = group.multiply(x, generators[s]);
+                int image = group.multiply(map[x], images[s]);
+                if (map[y] < 0) {
+                    if (used.get(image)) {
+                        return null;
+                    }
+                    map[y] = image;
+                    used.set(image);
+                    queue[tail++] = y;
+                } else if (map[y] != image) {
+                    return null;
+                }
+            }
+        }
+        return map;
+    }
+
+    private static Permutation toPermutation(int[] table) {
+        int[] mapping = new int[table.length];
+        for (int i = 0; i < table.length; i++) {
+            mapping[i] = table[i] + 1;
+        }
+        return new Permutation(mapping);
+    }
+
+    /** The group G (indexed). */
+    public IndexedGroup<E> group() {
+        return group;
+    }
+
+    /** Aut(G) as a permutation group on the points 1..|G| (element id + 1). */
+    public PermutationGroup permutationGroup() {
+        return automorphisms;
+    }
+
+    /** |Aut(G)|. */
+    public int order() {
+        return automorphisms.order();
+    }
+
+    /** |Aut(G)| without overflow. */
+    public BigInteger exactOrder() {
+        return automorphisms.exactOrder();
+    }
+
+    /** Generators of Aut(G) as automorphisms. */
+    public List<Automorphism<E>> generators() {
+        return automorphisms.generators().stream().map(this::toAutomorphism).toList();
+    }
+
+    /**
+     * True if the map is an automorphism of G. The map is evaluated on every
+     * element once and the resulting permutation is sifted through the chain.
+     */
+    public boolean contains(Automorphism<E> auto) {
+        int n = group.order();
+        int[] mapping = new int[n];
+        BitSet hit = new BitSet(n);
+        for (int id = 0; id < n; id++) {
+            E image = auto.apply(group.elementAt(id));
+            if (!group.contains(image)) {
+                return false;
+            }
+            mapping[id] = group.indexOf(image) + 1;
+            hit.set(mapping[id] - 1);
+        }
+        return hit.cardinality() == n && automorphisms.contains(new Permutation(mapping));
+    }
+
+    /**
+     * The automorphism of G represented by a permutation of element ids,
+     * tabulated over {@link #group()}.
+     *
+     * @throws IllegalArgumentException if p does not induce an automorphism
+     */
+    public Automorphism<E> toAutomorphism(Permutation p) {
+        int[] table = p.mapping();
+        for (int i = 0; i < table.length; i++) {
+            table[i]--;
+        }
+        return TabulatedAutomorphism.fromTable(group, table).toAutomorphism();
+    }
+
+    /**
+     * Inn(G) as a permutation group on the same points, generated by
+     * conjugation with the generators of G.
+     */
+    public synchronized PermutationGroup innerAutomorphismGroup() {
+        if (inner == null) {
+            int n = group.order();
+            List<Permutation> conjugations = new ArrayList<>();
+            for (int s : generators) {
+                int[] mapping = new int[n];
+                for (int x = 0; x < n; x++) {
+                    mapping[x] = group.conjugate(x, s) + 1;
+                }
+                conjugations.add(new Permutation(mapping));
+            }
+            inner = new PermutationGroup(n, conjugations, Arrays.stream(generators).map(g -> g + 1).toArray());
+        }
+        return inner;
+    }
+
+    /** |Inn(G)| = |G| / |Z(G)|. */
+    public int innerOrder() {
+        return innerAutomorphismGroup().order();
+    }
+
+    /** |Out(G)| = |Aut(G)| / |Inn(G)|. */
+    public int outerOrder() {
+        return order() / innerOrder();
+    }
+
+    @Override
+    public String toString() {
+        return "Aut(" + group.group() + ") of order " + exactOrder();
+    }
+}
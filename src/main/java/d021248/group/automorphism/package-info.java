@@ -52,6 +52,10 @@
  * Automorphism<Permutation> inner2 = AutomorphismAnalyzer.innerAutomorphism(s3, g2);
  * Automorphism<Permutation> composed = AutomorphismAnalyzer.compose(inner, inner2);
  * 
+ * // Full automorphism group, as a permutation group on element ids
+ * AutomorphismGroup<Permutation> aut = AutomorphismAnalyzer.automorphismGroup(s3);
+ * System.out.println(aut.order() + " / " + aut.innerOrder()); // 6 / 6
+ * 
  * // For abelian groups, all inner automorphisms are trivial
  * CyclicGroup z6 = GroupFactory.cyclic(6);
  * Set<Automorphism<CyclicElement>> innerZ6 = AutomorphismAnalyzer.innerAutomorphisms(z6);
@@ -68,5 +72,7 @@
  *
  * @see d021248.group.automorphism.Automorphism
  * @see d021248.group.automorphism.AutomorphismAnalyzer
+ * @see d021248.group.automorphism.AutomorphismGroup
+ * @see d021248.group.automorphism.TabulatedAutomorphism
  */
 package d021248.group.automorphism;
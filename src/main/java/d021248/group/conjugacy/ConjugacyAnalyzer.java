@@ -1,6 +1,7 @@
 package d021248.group.conjugacy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import d021248.group.Group;
+import d021248.group.IndexedGroup;
 import d021248.group.api.Element;
 import d021248.group.subgroup.Subgroup;
 import d021248.group.subgroup.SubgroupAnalyzer;
@@ -76,6 +78,58 @@ public final class ConjugacyAnalyzer {
         return classes;
     }
 
+    /**
+     * Label every element of an indexed group with the id of its conjugacy
+     * class.
+     * <p>
+     * Classes are the orbits of conjugation by a generating set of the group,
+     * found by breadth-first search. The identity forms class 0; the remaining
+     * classes are numbered in order of their smallest element id.
+     * </p>
+     * <p>
+     * <b>Performance:</b> O(n · |gens|) indexed products, compared to O(n³) for
+     * {@link #conjugacyClasses(Group)}.
+     * </p>
+     *
+     * @param parent the indexed group
+     * @return class id per element id
+     */
+    public static <E extends Element> int[] classLabels(IndexedGroup<E> parent) {
+        Objects.requireNonNull(parent, PARENT_NULL_MSG);
+        int n = parent.order();
+        int[] gens = parent.generators();
+        int[] classOf = new int[n];
+        Arrays.fill(classOf, -1);
+        int[] queue = new int[n];
+        int classes = labelClass(parent, gens, parent.identityIndex(), 0, classOf, queue);
+        for (int start = 0; start < n; start++) {
+            if (classOf[start] < 0) {
+                classes = labelClass(parent, gens, start, classes, classOf, queue);
+            }
+        }
+        return classOf;
+    }
+
+    /** Label the conjugation orbit of {@code start} with {@code id}; returns id + 1. */
+    private static <E extends Element> int labelClass(IndexedGroup<E> parent, int[] gens, int start, int id,
+            int[] classOf, int[] queue) {
+        int head = 0;
+        int tail = 0;
+        classOf[start] = id;
+        queue[tail++] = start;
+        while (head < tail) {
+            int x = queue[head++];
+            for (int s : gens) {
+                int y = parent.conjugate(x, s);
+                if (classOf[y] < 0) {
+                    classOf[y] = id;
+                    queue[tail++] = y;
+                }
+            }
+        }
+        return id + 1;
+    }
+
     /**
      * Compute the conjugacy class of a single element.
      * <p>
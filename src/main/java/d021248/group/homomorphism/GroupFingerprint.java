@@ -0,0 +1,134 @@
+package d021248.group.homomorphism;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.util.Constants;
+
+/**
+ * Isomorphism-invariant summary of a finite group.
+ * <p>
+ * Isomorphic groups always have equal fingerprints; groups with different
+ * fingerprints are never isomorphic. The converse does not hold, so a
+ * fingerprint match must be confirmed with {@link IsomorphismFinder} (as
+ * {@link IsomorphismCache} does).
+ * </p>
+ * <p>
+ * <b>Performance:</b> O(|G| log log |G|) products for the element orders
+ * (see {@link IndexedGroup#elementOrder(int)}), O(|G| · |gens|) for conjugacy
+ * classes (orbits under conjugation by a generating set), and one
+ * O(|G| · |gens|) closure per generator of the normal closure of the
+ * generator commutators for the derived subgroup. The Cayley table is not
+ * tabulated.
+ * </p>
+ *
+ * <pre>{@code
+ * GroupFingerprint s3 = GroupFingerprint.of(new SymmetricGroup(3));
+ * GroupFingerprint d3 = GroupFingerprint.of(new DihedralGroup(3));
+ * System.out.println(s3.equals(d3)); // true
+ * }</pre>
+ *
+ * @param order          group order |G|
+ * @param abelian        true if G is abelian
+ * @param orderHistogram element order → number of elements of that order
+ * @param classSizes     conjugacy class sizes in ascending order
+ * @param centerOrder    |Z(G)|
+ * @param derivedOrder   |[G,G]|
+ */
+public record GroupFingerprint(
+        int order,
+        boolean abelian,
+        SortedMap<Integer, Integer> orderHistogram,
+        List<Integer> classSizes,
+        int centerOrder,
+        int derivedOrder) {
+
+    public GroupFingerprint {
+        orderHistogram = Collections.unmodifiableSortedMap(new TreeMap<>(orderHistogram));
+        classSizes = List.copyOf(classSizes);
+    }
+
+    /** Compute the fingerprint of a group. */
+    public static <E extends Element> GroupFingerprint of(Group<E> group) {
+        Objects.requireNonNull(group, Constants.NULL_GROUP);
+        return of(new IsomorphismFinder.Profile<>(group));
+    }
+
+    static <E extends Element> GroupFingerprint of(IsomorphismFinder.Profile<E> profile) {
+        IndexedGroup<E> g = profile.group;
+        int n = g.order();
+        SortedMap<Integer, Integer> histogram = new TreeMap<>();
+        for (int x = 0; x < n; x++) {
+            histogram.merge(g.elementOrder(x), 1, Integer::sum);
+        }
+        List<Integer> sizes = new ArrayList<>();
+        int center = 0;
+        for (int rep : profile.classRepresentatives) {
+            int size = profile.classSize[rep];
+            sizes.add(size);
+            if (size == 1) {
+                center++;
+            }
+        }
+        Collections.sort(sizes);
+        return new GroupFingerprint(n, center == n, histogram, sizes, center, derivedOrder(g));
+    }
+
+    /**
+     * |[G,G]|, computed as the normal closure of the commutators of generator
+     * pairs: the subgroup they generate is enlarged by conjugates under the
+     * generators until it is normal.
+     */
+    private static <E extends Element> int derivedOrder(IndexedGroup<E> g) {
+        int[] gens = g.generators();
+        List<Integer> normalGens = new ArrayList<>();
+        for (int a : gens) {
+            for (int b : gens) {
+                int commutator = g.multiply(g.multiply(g.inverse(a), g.inverse(b)), g.multiply(a, b));
+                if (commutator != g.identityIndex()) {
+                    normalGens.add(commutator);
+                }
+            }
+        }
+        BitSet closure = g.closure(toArray(normalGens));
+        // newly added generators are appended and visited by the same loop
+        for (int i = 0; i < normalGens.size(); i++) {
+            for (int s : gens) {
+                int conjugate = g.conjugate(normalGens.get(i), s);
+                if (!closure.get(conjugate)) {
+                    normalGens.add(conjugate);
+                    closure = g.closure(toArray(normalGens));
+                }
+            }
+        }
+        return closure.cardinality();
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Number of conjugacy classes. */
+    public int classCount() {
+        return classSizes.size();
+    }
+
+    /** Number of elements of the given order (0 if none). */
+    public int elementsOfOrder(int k) {
+        return orderHistogram.getOrDefault(k, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "Fingerprint(|G|=" + order + (abelian ? ", abelian" : "") + ", orders=" + orderHistogram
+                + ", classes=" + classSizes + ", |Z|=" + centerOrder + ", |G'|=" + derivedOrder + ")";
+    }
+}
@@ -1,13 +1,28 @@
 package d021248.group.homomorphism;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import d021248.group.Group;
+import d021248.group.IndexedGroup;
 import d021248.group.api.Element;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
 
 /**
  * Concrete implementation of a group homomorphism with source and target
  * groups.
+ * <p>
+ * Besides wrapping an arbitrary mapping, a homomorphism can be defined by the
+ * images of a generating set via
+ * {@link #fromGeneratorImages(Group, Group, Map)}, which verifies the
+ * definition in O(|G| · |gens|) instead of the O(|G|²) of
+ * {@link HomomorphismAnalyzer#isHomomorphism(Homomorphism)}.
+ * </p>
  *
  * @param <E1> element type of source group
  * @param <E2> element type of target group
@@ -28,4 +43,112 @@ public record Homomorphism<E1 extends Element, E2 extends Element>(
         return mapping.apply(element);
     }
 
+    /**
+     * Define a homomorphism by the images of generators.
+     * <p>
+     * The map is extended by breadth-first search over the Cayley graph of the
+     * source with respect to the given generators: the image of x·s is set to
+     * φ(x)·φ(s) along the BFS tree, and every other edge x → x·s is checked for
+     * consistency with the image already assigned. Consistency on all edges is
+     * exactly the condition φ(xs) = φ(x)φ(s) for every x and generator s, which
+     * by induction makes φ a homomorphism. The images recorded during the search
+     * back the returned mapping, so evaluation is a single id lookup.
+     * </p>
+     * <p>
+     * <b>Performance:</b> O(|G| · |gens|) products in each group, after
+     * indexing the source at a cost of |G| inverses; the source Cayley table is
+     * not tabulated. The target is not enumerated if it is a
+     * {@link PermutationGroup} or an {@link IndexedGroup}.
+     * </p>
+     *
+     * <pre>{@code
+     * SymmetricGroup s6 = new SymmetricGroup(6);
+     * CyclicGroup z2 = new CyclicGroup(2);
+     * Homomorphism<Permutation, CyclicElement> sign = Homomorphism.fromGeneratorImages(s6, z2, Map.of(
+     *         Permutation.cycle(1, 2, 3, 4, 5, 6), new CyclicElement(1, 2),
+     *         Permutation.transposition(1, 2, 6), new CyclicElement(1, 2)));
+     * }</pre>
+     *
+     * @param source the source group G
+     * @param target the target group H
+     * @param images images of a generating set of G
+     * @return the unique homomorphism extending the given images
+     * @throws IllegalArgumentException if the keys do not generate G, an image
+     *                                  is not in H, or the images do not
+     *                                  extend to a homomorphism
+     */
+    public static <E1 extends Element, E2 extends Element> Homomorphism<E1, E2> fromGeneratorImages(
+            Group<E1> source, Group<E2> target, Map<E1, E2> images) {
+        Objects.requireNonNull(source, "Source group cannot be null");
+        Objects.requireNonNull(target, "Target group cannot be null");
+        Objects.requireNonNull(images, "Generator images cannot be null");
+        IndexedGroup<E1> indexed = IndexedGroup.of(source);
+
+        int k = images.size();
+        int[] gens = new int[k];
+        List<E2> genImages = new ArrayList<>(k);
+        Predicate<E2> inTarget = membership(target);
+        int i = 0;
+        for (Map.Entry<E1, E2> entry : images.entrySet()) {
+            E2 image = Objects.requireNonNull(entry.getValue(), "Generator image cannot be null");
+            if (!inTarget.test(image)) {
+                throw new IllegalArgumentException("Generator image not in target group: " + image);
+            }
+            gens[i++] = indexed.indexOf(entry.getKey());
+            genImages.add(image);
+        }
+
+        int n = indexed.order();
+        List<E2> imageOf = new ArrayList<>(n);
+        for (int id = 0; id < n; id++) {
+            imageOf.add(null);
+        }
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        imageOf.set(indexed.identityIndex(), target.identity());
+        queue[tail++] = indexed.identityIndex();
+        while (head < tail) {
+            int x = queue[head++];
+            E2 imageX = imageOf.get(x);
+            for (int s = 0; s < k; s++) {
+                int y = indexed.multiply(x, gens[s]);
+                E2 imageY = target.operate(imageX, genImages.get(s));
+                E2 known = imageOf.get(y);
+                if (known == null) {
+                    imageOf.set(y, imageY);
+                    queue[tail++] = y;
+                } else if (!known.equals(imageY)) {
+                    throw new IllegalArgumentException(
+                            "Generator images do not extend to a homomorphism: inconsistent image of "
+                                    + indexed.elementAt(y));
+                }
+            }
+        }
+        if (tail < n) {
+            throw new IllegalArgumentException(
+                    "Generators do not generate the source group: reached " + tail + " of " + n + " elements");
+        }
+
+        List<E2> table = List.copyOf(imageOf);
+        return new Homomorphism<>(source, target, e -> table.get(indexed.indexOf(e)));
+    }
+
+    /**
+     * Membership test for a group that avoids enumerating it where possible: a
+     * {@link PermutationGroup} sifts through its stabilizer chain and an
+     * {@link IndexedGroup} looks up its index; other groups fall back to
+     * {@link Group#elements()}.
+     */
+    private static <E extends Element> Predicate<E> membership(Group<E> group) {
+        if (group instanceof PermutationGroup permutations) {
+            return e -> e instanceof Permutation p && permutations.contains(p);
+        }
+        if (group instanceof IndexedGroup<E> indexed) {
+            return indexed::contains;
+        }
+        Set<E> elements = group.elements();
+        return elements::contains;
+    }
+
 }
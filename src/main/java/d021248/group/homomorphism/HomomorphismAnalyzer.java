@@ -10,12 +10,33 @@ import d021248.group.subgroup.SubgroupGenerator;
 
 /**
  * Utility class for analyzing group homomorphisms.
+ * <p>
+ * Every query below evaluates φ on the whole source group. For repeated
+ * queries, {@link #tabulate(Homomorphism)} evaluates φ once into a
+ * {@link TabulatedHomomorphism}; all methods recognize such homomorphisms and
+ * answer from its cached kernel and image.
+ * </p>
  */
 public final class HomomorphismAnalyzer {
 
     private HomomorphismAnalyzer() {
     }
 
+    /**
+     * Evaluate φ once on every source element and return an equivalent
+     * homomorphism backed by the resulting id table.
+     *
+     * @param phi the homomorphism
+     * @return φ with a {@link TabulatedHomomorphism} mapping
+     */
+    public static <E1 extends Element, E2 extends Element> Homomorphism<E1, E2> tabulate(
+            Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2>) {
+            return phi;
+        }
+        return TabulatedHomomorphism.of(phi).toHomomorphism();
+    }
+
     /**
      * Verify that a mapping is a valid group homomorphism.
      * <p>
@@ -26,6 +47,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> boolean isHomomorphism(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.isHomomorphism();
+        }
         Group<E1> source = phi.source();
         Group<E2> target = phi.target();
 
@@ -64,6 +88,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> Subgroup<E1> kernel(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.kernel();
+        }
         Group<E1> source = phi.source();
         Group<E2> target = phi.target();
 
@@ -89,6 +116,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> Subgroup<E2> image(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.image();
+        }
         Group<E1> source = phi.source();
         Group<E2> target = phi.target();
 
@@ -111,6 +141,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> boolean isInjective(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.isInjective();
+        }
         Subgroup<E1> ker = kernel(phi);
         return ker.order() == 1;
     }
@@ -125,6 +158,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> boolean isSurjective(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.isSurjective();
+        }
         Group<E2> target = phi.target();
 
         Subgroup<E2> im = image(phi);
@@ -141,6 +177,9 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> boolean isIsomorphism(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated.isIsomorphism();
+        }
         return isInjective(phi) && isSurjective(phi);
     }
 
@@ -154,6 +193,14 @@ public final class HomomorphismAnalyzer {
      */
     public static <E1 extends Element, E2 extends Element> int firstIsomorphismTheorem(
             Homomorphism<E1, E2> phi) {
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            int quotientOrder = tabulated.indexedSource().order() / tabulated.kernelOrder();
+            if (quotientOrder != tabulated.imageOrder()) {
+                throw new IllegalStateException(
+                        "First Isomorphism Theorem violated: |G/ker(φ)| ≠ |im(φ)|");
+            }
+            return quotientOrder;
+        }
         Group<E1> source = phi.source();
 
         Subgroup<E1> ker = kernel(phi);
@@ -173,6 +220,9 @@ public final class HomomorphismAnalyzer {
 
     /**
      * Compose two homomorphisms: (ψ ∘ φ)(g) = ψ(φ(g)).
+     * <p>
+     * If both are tabulated, the result is tabulated by composing the tables.
+     * </p>
      *
      * @param phi first homomorphism G → H
      * @param psi second homomorphism H → K
@@ -184,6 +234,10 @@ public final class HomomorphismAnalyzer {
         if (!phi.target().equals(psi.source())) {
             throw new IllegalArgumentException("Target of phi must equal source of psi");
         }
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> first
+                && psi.mapping() instanceof TabulatedHomomorphism<E2, E3> second) {
+            return first.andThen(second).toHomomorphism();
+        }
 
         GroupHomomorphism<E1, E3> composition = e1 -> psi.apply(phi.apply(e1));
 
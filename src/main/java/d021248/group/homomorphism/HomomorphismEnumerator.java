@@ -0,0 +1,280 @@
+package d021248.group.homomorphism;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.conjugacy.ConjugacyAnalyzer;
+import d021248.group.util.Constants;
+
+/**
+ * Enumerates all homomorphisms G → H between finite groups.
+ * <p>
+ * A homomorphism is determined by the images of a generating set g₁..gₖ of G.
+ * Images are assigned one generator at a time by backtracking:
+ * </p>
+ * <ul>
+ * <li><b>Element orders.</b> gᵢ can only map to elements whose order divides
+ * the order of gᵢ.</li>
+ * <li><b>Relators.</b> After every assignment the partial map is extended over
+ * ⟨g₁..gᵢ⟩ by breadth-first search and every Cayley-graph edge is checked for
+ * consistency, which checks all relations among the assigned generators.</li>
+ * </ul>
+ * <p>
+ * Up to conjugation in H, two homomorphisms φ and hφh⁻¹ are identified. Each
+ * class is counted once through its canonical member: the tuple of generator
+ * images that is lexicographically smallest (by element id) among all its
+ * conjugates. The image of g₁ is then restricted to the smallest id of each
+ * conjugacy class of H, and only conjugation by its centralizer has to be
+ * checked.
+ * </p>
+ * <p>
+ * <b>Performance:</b> the search is split into one task per candidate image of
+ * g₁ and run on a {@link ForkJoinPool}. Each check costs O(|⟨g₁..gᵢ⟩| · i)
+ * indexed products on {@link IndexedGroup}s, and counting allocates no maps
+ * beyond one work buffer per task.
+ * </p>
+ *
+ * <pre>{@code
+ * HomomorphismEnumerator<Permutation, Permutation> e = new HomomorphismEnumerator<>(s4, s3);
+ * System.out.println(e.count());                   // 10
+ * System.out.println(e.countUpToConjugation());    // 3
+ * }</pre>
+ *
+ * @param <E1> element type of source group
+ * @param <E2> element type of target group
+ */
+public final class HomomorphismEnumerator<E1 extends Element, E2 extends Element> {
+    private final IndexedGroup<E1> source;
+    private final IndexedGroup<E2> target;
+    private final ForkJoinPool pool;
+    private final int[] generators;
+    private final int[][] candidates;
+    private final int[] firstClassCandidates;
+
+    /**
+     * Prepare the enumeration on the common pool.
+     *
+     * @param source the group G
+     * @param target the group H
+     */
+    public HomomorphismEnumerator(Group<E1> source, Group<E2> target) {
+        this(source, target, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepare the enumeration on a given pool.
+     *
+     * @param source the group G
+     * @param target the group H
+     * @param pool   pool running one task per candidate image of g₁
+     */
+    public HomomorphismEnumerator(Group<E1> source, Group<E2> target, ForkJoinPool pool) {
+        this.source = IndexedGroup.of(Objects.requireNonNull(source, Constants.NULL_GROUP));
+        this.target = IndexedGroup.of(Objects.requireNonNull(target, Constants.NULL_GROUP));
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.generators = this.source.generators();
+        int m = this.target.order();
+        int[] orders = IntStream.range(0, m).map(this.target::elementOrder).toArray();
+        this.candidates = new int[generators.length][];
+        for (int i = 0; i < generators.length; i++) {
+            int order = this.source.elementOrder(generators[i]);
+            candidates[i] = IntStream.range(0, m).filter(y -> order % orders[y] == 0).toArray();
+        }
+        int[] classOf = ConjugacyAnalyzer.classLabels(this.target);
+        boolean[] seen = new boolean[m];
+        this.firstClassCandidates = generators.length == 0 ? new int[0]
+                : Arrays.stream(candidates[0]).filter(y -> {
+                    boolean first = !seen[classOf[y]];
+                    seen[classOf[y]] = true;
+                    return first;
+                }).toArray();
+    }
+
+    /** |Hom(G, H)|, without materializing any map. */
+    public long count() {
+        if (generators.length == 0) {
+            return 1;
+        }
+        return perFirstImage(candidates[0], first -> new Search(first, false).count(1))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /** Number of homomorphisms G → H up to conjugation in H. */
+    public long countUpToConjugation() {
+        if (generators.length == 0) {
+            return 1;
+        }
+        return perFirstImage(firstClassCandidates, first -> new Search(first, true).count(1))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /** All homomorphisms G → H, backed by tabulated mappings. */
+    public List<Homomorphism<E1, E2>> list() {
+        if (generators.length == 0) {
+            return List.of(trivial());
+        }
+        return flatten(perFirstImage(candidates[0], first -> new Search(first, false).collect()));
+    }
+
+    /**
+     * One homomorphism per conjugacy class of Hom(G, H) under conjugation in H,
+     * namely the one with the lexicographically smallest generator images.
+     */
+    public List<Homomorphism<E1, E2>> listUpToConjugation() {
+        if (generators.length == 0) {
+            return List.of(trivial());
+        }
+        return flatten(perFirstImage(firstClassCandidates, first -> new Search(first, true).collect()));
+    }
+
+    private Homomorphism<E1, E2> trivial() {
+        int[] table = new int[source.order()];
+        Arrays.fill(table, target.identityIndex());
+        return toHomomorphism(table);
+    }
+
+    private Homomorphism<E1, E2> toHomomorphism(int[] table) {
+        return TabulatedHomomorphism.fromTable(source.group(), target.group(), source, target, table)
+                .toHomomorphism();
+    }
+
+    private List<Homomorphism<E1, E2>> flatten(List<List<Homomorphism<E1, E2>>> parts) {
+        List<Homomorphism<E1, E2>> result = new ArrayList<>();
+        parts.forEach(result::addAll);
+        return result;
+    }
+
+    /** Run one task per first-generator image and return the results in order. */
+    private <R> List<R> perFirstImage(int[] firstImages, IntFunction<R> branch) {
+        List<ForkJoinTask<R>> tasks = new ArrayList<>();
+        for (int first : firstImages) {
+            tasks.add(ForkJoinTask.adapt(() -> branch.apply(first)));
+        }
+        return pool.invoke(new RecursiveTask<List<R>>() {
+            @Override
+            protected List<R> compute() {
+                invokeAll(tasks);
+                return tasks.stream().map(ForkJoinTask::join).toList();
+            }
+        });
+    }
+
+    /** Backtracking state of one task, with reusable work buffers. */
+    private final class Search {
+        private final int[] images = new int[generators.length];
+        private final int[] map = new int[source.order()];
+        private final int[] queue = new int[source.order()];
+        private final boolean upToConjugation;
+        private final int[] centralizer;
+        private final List<Homomorphism<E1, E2>> found = new ArrayList<>();
+        private boolean collecting;
+
+        Search(int first, boolean upToConjugation) {
+            this.images[0] = first;
+            this.upToConjugation = upToConjugation;
+            this.centralizer = upToConjugation
+                    ? IntStream.range(0, target.order()).filter(h -> target.conjugate(first, h) == first).toArray()
+                    : null;
+        }
+
+        List<Homomorphism<E1, E2>> collect() {
+            collecting = true;
+            count(1);
+            return found;
+        }
+
+        /** Count completions of the images of generators {@code 0..level-1}. */
+        long count(int level) {
+            if (!extend(level)) {
+                return 0;
+            }
+            if (level == generators.length) {
+                if (upToConjugation && !isCanonical()) {
+                    return 0;
+                }
+                if (collecting) {
+                    found.add(toHomomorphism(map.clone()));
+                }
+                return 1;
+            }
+            long total = 0;
+            for (int candidate : candidates[level]) {
+                images[level] = candidate;
+                total += count(level + 1);
+            }
+            return total;
+        }
+
+        /**
+         * True if no conjugate h·images·h⁻¹ is lexicographically smaller. Only
+         * h centralizing the first image can keep it, and any other h moves it
+         * to a larger id within its class.
+         */
+        private boolean isCanonical() {
+            for (int h : centralizer) {
+                for (int i = 1; i < images.length; i++) {
+                    int conjugate = target.conjugate(images[i], h);
+                    if (conjugate < images[i]) {
+                        return false;
+                    }
+                    if (conjugate > images[i]) {
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Extend the images of the first {@code count} generators over the
+         * subgroup they generate and check every edge for consistency.
+         */
+        private boolean extend(int count) {
+            Arrays.fill(map, -1);
+            int head = 0;
+            int tail = 0;
+            map[source.identityIndex()] = target.identityIndex();
+            queue[tail++] = source.identityIndex();
+            while (head < tail) {
+                int x = queue[head++];
+                for (int s = 0; s < count; s++) {
+                    int y = source.multiply(x, generators[s]);
+                    int image = target.multiply(map[x], images[s]);
+                    if (map[y] < 0) {
+                        map[y] = image;
+                        queue[tail++] = y;
+                    } else if (map[y] != image) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /** |Hom(G, H)|. */
+    public static <E1 extends Element, E2 extends Element> long count(Group<E1> source, Group<E2> target) {
+        return new HomomorphismEnumerator<>(source, target).count();
+    }
+
+    /** All homomorphisms G → H. */
+    public static <E1 extends Element, E2 extends Element> List<Homomorphism<E1, E2>> list(Group<E1> source,
+            Group<E2> target) {
+        return new HomomorphismEnumerator<>(source, target).list();
+    }
+
+    @Override
+    public String toString() {
+        return "Hom(" + source.group() + ", " + target.group() + ")";
+    }
+}
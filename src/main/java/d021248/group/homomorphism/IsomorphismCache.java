@@ -0,0 +1,134 @@
+package d021248.group.homomorphism;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import d021248.group.Group;
+import d021248.group.api.Element;
+import d021248.group.util.Constants;
+
+/**
+ * Thread-safe cache of results that depend only on the isomorphism type of a
+ * group.
+ * <p>
+ * Entries are bucketed by {@link GroupFingerprint}. A lookup computes the
+ * fingerprint of the query group and, on a fingerprint hit, confirms the match
+ * with {@link IsomorphismFinder} before returning the stored value, so distinct
+ * groups that merely share invariants never alias. Buckets are locked
+ * individually: isomorphic queries arriving concurrently wait for the first
+ * computation instead of repeating it, while groups with different
+ * fingerprints proceed in parallel.
+ * </p>
+ *
+ * <pre>{@code
+ * IsomorphismCache<Integer> subgroupCounts = new IsomorphismCache<>();
+ * for (Subgroup<Permutation> h : subgroups) {
+ *     int count = subgroupCounts.computeIfAbsent(h, g -> SubgroupGenerator.allSubgroups(g).size());
+ * }
+ * }</pre>
+ *
+ * @param <V> the type of cached values
+ */
+public final class IsomorphismCache<V> {
+    private final ConcurrentHashMap<GroupFingerprint, List<Entry<V>>> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record Entry<V>(IsomorphismFinder.Profile<?> profile, V value) {
+    }
+
+    /** Create an empty cache. */
+    public IsomorphismCache() {
+    }
+
+    /**
+     * Return the value stored for a group isomorphic to the given one, or
+     * compute, store and return it.
+     *
+     * @param group   the query group
+     * @param compute computes the value for the group on a miss
+     * @return the cached or newly computed value
+     */
+    public <E extends Element> V computeIfAbsent(Group<E> group, Function<? super Group<E>, ? extends V> compute) {
+        Objects.requireNonNull(group, Constants.NULL_GROUP);
+        Objects.requireNonNull(compute, "compute function must not be null");
+        IsomorphismFinder.Profile<E> profile = new IsomorphismFinder.Profile<>(group);
+        List<Entry<V>> bucket = buckets.computeIfAbsent(GroupFingerprint.of(profile), k -> new ArrayList<>());
+        synchronized (bucket) {
+            Optional<V> cached = find(bucket, profile);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return cached.get();
+            }
+            misses.incrementAndGet();
+            V value = compute.apply(group);
+            bucket.add(new Entry<>(profile, value));
+            return value;
+        }
+    }
+
+    /**
+     * Value stored for a group isomorphic to the given one, if any.
+     */
+    public <E extends Element> Optional<V> get(Group<E> group) {
+        Objects.requireNonNull(group, Constants.NULL_GROUP);
+        IsomorphismFinder.Profile<E> profile = new IsomorphismFinder.Profile<>(group);
+        List<Entry<V>> bucket = buckets.get(GroupFingerprint.of(profile));
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        synchronized (bucket) {
+            return find(bucket, profile);
+        }
+    }
+
+    private static <V, E extends Element> Optional<V> find(List<Entry<V>> bucket, IsomorphismFinder.Profile<E> profile) {
+        for (Entry<V> entry : bucket) {
+            if (isomorphic(profile, entry.profile())) {
+                return Optional.of(entry.value());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static <E1 extends Element, E2 extends Element> boolean isomorphic(IsomorphismFinder.Profile<E1> a,
+            IsomorphismFinder.Profile<E2> b) {
+        return IsomorphismFinder.findIsomorphism(a, b).isPresent();
+    }
+
+    /** Number of stored isomorphism types. */
+    public int size() {
+        return buckets.values().stream().mapToInt(bucket -> {
+            synchronized (bucket) {
+                return bucket.size();
+            }
+        }).sum();
+    }
+
+    /** Number of {@link #computeIfAbsent} calls answered from the cache. */
+    public long hits() {
+        return hits.get();
+    }
+
+    /** Number of {@link #computeIfAbsent} calls that computed a new value. */
+    public long misses() {
+        return misses.get();
+    }
+
+    /** Remove all entries and reset the statistics. */
+    public void clear() {
+        buckets.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "IsomorphismCache(types=" + size() + ", hits=" + hits() + ", misses=" + misses() + ")";
+    }
+}
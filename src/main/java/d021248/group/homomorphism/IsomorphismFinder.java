@@ -0,0 +1,205 @@
+package d021248.group.homomorphism;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.conjugacy.ConjugacyAnalyzer;
+import d021248.group.util.Constants;
+
+/**
+ * Decides whether two finite groups are isomorphic and constructs an explicit
+ * isomorphism.
+ * <p>
+ * The search runs in two phases:
+ * </p>
+ * <ol>
+ * <li><b>Invariants.</b> Every element is tagged with its order and the size
+ * of its conjugacy class. Groups whose multisets of tags differ (which covers
+ * order, element-order histogram, class equation and center size) are
+ * rejected without any search.</li>
+ * <li><b>Backtracking.</b> A small generating set g₁..gₖ of G is fixed and
+ * images are assigned one generator at a time, each from the elements of H
+ * carrying the same tag. After every assignment the partial map is extended
+ * over ⟨g₁..gᵢ⟩ by breadth-first search and every Cayley-graph edge is checked
+ * for consistency and injectivity; this checks all relations among the
+ * assigned generators. Since any isomorphism may be composed with an inner
+ * automorphism of H, the image of g₁ is only tried on one representative per
+ * conjugacy class.</li>
+ * </ol>
+ * <p>
+ * <b>Performance:</b> invariants cost O(|G| · |gens|) via an
+ * {@link IndexedGroup}; each consistency check is O(|⟨g₁..gᵢ⟩| · i)
+ * indexed products. For the usual small generating sets, groups of order a
+ * few thousand are decided in milliseconds.
+ * </p>
+ *
+ * <pre>{@code
+ * QuotientGroup<Permutation> q = new QuotientGroup<>(s4, kleinFour);
+ * Optional<Homomorphism<Coset<Permutation>, Permutation>> iso = IsomorphismFinder.findIsomorphism(q, s3);
+ * System.out.println(iso.isPresent()); // true
+ * }</pre>
+ */
+public final class IsomorphismFinder {
+
+    private IsomorphismFinder() {
+    }
+
+    /**
+     * Per-element invariants of an indexed group: element orders, conjugacy
+     * class labels and sizes.
+     */
+    static final class Profile<E extends Element> {
+        final IndexedGroup<E> group;
+        final int[] classOf;
+        final int[] classSize;
+        final int[] classRepresentatives;
+        final long[] tag;
+        final Map<Long, Integer> histogram = new HashMap<>();
+
+        Profile(Group<E> group) {
+            this.group = IndexedGroup.of(group);
+            int n = this.group.order();
+            this.classOf = ConjugacyAnalyzer.classLabels(this.group);
+            int classes = Arrays.stream(classOf).max().orElse(0) + 1;
+            int[] sizes = new int[classes];
+            this.classRepresentatives = new int[classes];
+            Arrays.fill(classRepresentatives, -1);
+            for (int x = 0; x < n; x++) {
+                sizes[classOf[x]]++;
+                if (classRepresentatives[classOf[x]] < 0) {
+                    classRepresentatives[classOf[x]] = x;
+                }
+            }
+            this.classSize = new int[n];
+            this.tag = new long[n];
+            for (int x = 0; x < n; x++) {
+                classSize[x] = sizes[classOf[x]];
+                tag[x] = ((long) this.group.elementOrder(x) << 32) | classSize[x];
+                histogram.merge(tag[x], 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Check whether two groups are isomorphic.
+     *
+     * @return true if an isomorphism G → H exists
+     */
+    public static <E1 extends Element, E2 extends Element> boolean areIsomorphic(Group<E1> g, Group<E2> h) {
+        return findIsomorphism(g, h).isPresent();
+    }
+
+    /**
+     * Search for an isomorphism G → H.
+     *
+     * @param g the source group
+     * @param h the target group
+     * @return an isomorphism backed by a {@link TabulatedHomomorphism}, or empty
+     *         if the groups are not isomorphic
+     */
+    public static <E1 extends Element, E2 extends Element> Optional<Homomorphism<E1, E2>> findIsomorphism(
+            Group<E1> g, Group<E2> h) {
+        Objects.requireNonNull(g, Constants.NULL_GROUP);
+        Objects.requireNonNull(h, Constants.NULL_GROUP);
+        if (g.order() != h.order()) {
+            return Optional.empty();
+        }
+        return findIsomorphism(new Profile<>(g), new Profile<>(h));
+    }
+
+    static <E1 extends Element, E2 extends Element> Optional<Homomorphism<E1, E2>> findIsomorphism(
+            Profile<E1> source, Profile<E2> target) {
+        if (source.group.order() != target.group.order() || !source.histogram.equals(target.histogram)) {
+            return Optional.empty();
+        }
+        int[] gens = source.group.generators();
+        int[][] candidates = new int[gens.length][];
+        for (int i = 0; i < gens.length; i++) {
+            long wanted = source.tag[gens[i]];
+            int[] pool = i == 0 ? target.classRepresentatives : allIds(target.group.order());
+            candidates[i] = Arrays.stream(pool).filter(y -> target.tag[y] == wanted).toArray();
+        }
+        int[] images = new int[gens.length];
+        int[] table = search(source.group, target.group, gens, candidates, images, 0);
+        if (table == null) {
+            return Optional.empty();
+        }
+        return Optional.of(TabulatedHomomorphism.fromTable(source.group.group(), target.group.group(),
+                source.group, target.group, table).toHomomorphism());
+    }
+
+    private static int[] allIds(int n) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        return ids;
+    }
+
+    private static <E1 extends Element, E2 extends Element> int[] search(IndexedGroup<E1> g, IndexedGroup<E2> h,
+            int[] gens, int[][] candidates, int[] images, int level) {
+        if (level == gens.length) {
+            return extend(g, h, gens, images, gens.length);
+        }
+        for (int candidate : candidates[level]) {
+            images[level] = candidate;
+            int[] partial = extend(g, h, gens, images, level + 1);
+            if (partial == null) {
+                continue;
+            }
+            if (level + 1 == gens.length) {
+                return partial;
+            }
+            int[] result = search(g, h, gens, candidates, images, level + 1);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extend the images of the first {@code count} generators over the subgroup
+     * they generate, checking every edge for consistency and injectivity.
+     *
+     * @return the id table on ⟨g₁..g_count⟩ (-1 elsewhere), or null on conflict
+     */
+    private static <E1 extends Element, E2 extends Element> int[] extend(IndexedGroup<E1> g, IndexedGroup<E2> h,
+            int[] gens, int[] images, int count) {
+        int n = g.order();
+        int[] map = new int[n];
+        Arrays.fill(map, -1);
+        BitSet used = new BitSet(n);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        map[g.identityIndex()] = h.identityIndex();
+        used.set(h.identityIndex());
+        queue[tail++] = g.identityIndex();
+        while (head < tail) {
+            int x = queue[head++];
+            for (int s = 0; s < count; s++) {
+                int y = g.multiply(x, gens[s]);
+                int image = h.multiply(map[x], images[s]);
+                if (map[y] < 0) {
+                    if (used.get(image)) {
+                        return null;
+                    }
+                    map[y] = image;
+                    used.set(image);
+                    queue[tail++] = y;
+                } else if (map[y] != image) {
+                    return null;
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,237 @@
+package d021248.group.homomorphism;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.subgroup.Subgroup;
+
+/**
+ * Homomorphism materialized as an id → id table over indexed source and target
+ * groups.
+ * <p>
+ * The underlying mapping is evaluated exactly once per source element. Kernel
+ * and image are then derived from the table as bit sets over element ids and
+ * cached, so kernel/image orders, injectivity, surjectivity and the first
+ * isomorphism theorem cost O(1) after the first query, and composition of two
+ * tabulated homomorphisms is a table lookup per element instead of a nested
+ * lambda call. {@link HomomorphismAnalyzer} recognizes homomorphisms backed by
+ * a tabulated mapping and uses these caches.
+ * </p>
+ *
+ * <pre>{@code
+ * Homomorphism<Permutation, CyclicElement> sign = new Homomorphism<>(s4, z2,
+ *         p -> new CyclicElement(p.sign() == 1 ? 0 : 1, 2));
+ * TabulatedHomomorphism<Permutation, CyclicElement> t = TabulatedHomomorphism.of(sign);
+ * System.out.println(t.kernelOrder()); // 12
+ * }</pre>
+ *
+ * @param <E1> element type of source group
+ * @param <E2> element type of target group
+ */
+public final class TabulatedHomomorphism<E1 extends Element, E2 extends Element> implements GroupHomomorphism<E1, E2> {
+    private final Group<E1> source;
+    private final Group<E2> target;
+    private final IndexedGroup<E1> indexedSource;
+    private final IndexedGroup<E2> indexedTarget;
+    private final int[] table;
+    private BitSet kernelIds;
+    private BitSet imageIds;
+    private Subgroup<E1> kernel;
+    private Subgroup<E2> image;
+
+    private TabulatedHomomorphism(Group<E1> source, Group<E2> target, IndexedGroup<E1> indexedSource,
+            IndexedGroup<E2> indexedTarget, int[] table) {
+        this.source = source;
+        this.target = target;
+        this.indexedSource = indexedSource;
+        this.indexedTarget = indexedTarget;
+        this.table = table;
+    }
+
+    /**
+     * Evaluate a homomorphism once on every source element.
+     * <p>
+     * Returns the existing table if {@code phi} is already tabulated.
+     * </p>
+     *
+     * @throws IllegalArgumentException if some image is not in the target group
+     */
+    public static <E1 extends Element, E2 extends Element> TabulatedHomomorphism<E1, E2> of(
+            Homomorphism<E1, E2> phi) {
+        Objects.requireNonNull(phi, "Homomorphism cannot be null");
+        if (phi.mapping() instanceof TabulatedHomomorphism<E1, E2> tabulated) {
+            return tabulated;
+        }
+        IndexedGroup<E1> indexedSource = IndexedGroup.of(phi.source());
+        IndexedGroup<E2> indexedTarget = IndexedGroup.of(phi.target());
+        int[] table = new int[indexedSource.order()];
+        for (int id = 0; id < table.length; id++) {
+            table[id] = indexedTarget.indexOf(phi.apply(indexedSource.elementAt(id)));
+        }
+        return new TabulatedHomomorphism<>(phi.source(), phi.target(), indexedSource, indexedTarget, table);
+    }
+
+    /** Wrap an already computed id table (not copied, not verified). */
+    static <E1 extends Element, E2 extends Element> TabulatedHomomorphism<E1, E2> fromTable(Group<E1> source,
+            Group<E2> target, IndexedGroup<E1> indexedSource, IndexedGroup<E2> indexedTarget, int[] table) {
+        return new TabulatedHomomorphism<>(source, target, indexedSource, indexedTarget, table);
+    }
+
+    /** This table wrapped as a {@link Homomorphism} with the original groups. */
+    public Homomorphism<E1, E2> toHomomorphism() {
+        return new Homomorphism<>(source, target, this);
+    }
+
+    @Override
+    public E2 apply(E1 element) {
+        return indexedTarget.elementAt(table[indexedSource.indexOf(element)]);
+    }
+
+    /** Target id of the image of the source element with the given id. */
+    public int applyIndex(int sourceId) {
+        return table[sourceId];
+    }
+
+    @Override
+    public Group<E1> source() {
+        return source;
+    }
+
+    @Override
+    public Group<E2> target() {
+        return target;
+    }
+
+    /** Indexed view of the source group that the table is keyed by. */
+    public IndexedGroup<E1> indexedSource() {
+        return indexedSource;
+    }
+
+    /** Indexed view of the target group that the table maps into. */
+    public IndexedGroup<E2> indexedTarget() {
+        return indexedTarget;
+    }
+
+    /** Source ids of the kernel (a copy of the cached bit set). */
+    public BitSet kernelIds() {
+        return (BitSet) kernelBits().clone();
+    }
+
+    /** Target ids of the image (a copy of the cached bit set). */
+    public BitSet imageIds() {
+        return (BitSet) imageBits().clone();
+    }
+
+    private synchronized BitSet kernelBits() {
+        if (kernelIds == null) {
+            BitSet bits = new BitSet(table.length);
+            int identity = indexedTarget.identityIndex();
+            for (int id = 0; id < table.length; id++) {
+                if (table[id] == identity) {
+                    bits.set(id);
+                }
+            }
+            kernelIds = bits;
+        }
+        return kernelIds;
+    }
+
+    private synchronized BitSet imageBits() {
+        if (imageIds == null) {
+            BitSet bits = new BitSet(indexedTarget.order());
+            for (int t : table) {
+                bits.set(t);
+            }
+            imageIds = bits;
+        }
+        return imageIds;
+    }
+
+    /** |ker(φ)|. */
+    public int kernelOrder() {
+        return kernelBits().cardinality();
+    }
+
+    /** |im(φ)|. */
+    public int imageOrder() {
+        return imageBits().cardinality();
+    }
+
+    /** Kernel as a subgroup of the source, built once. */
+    public synchronized Subgroup<E1> kernel() {
+        if (kernel == null) {
+            kernel = new Subgroup<>(source, indexedSource.elementsOf(kernelBits()));
+        }
+        return kernel;
+    }
+
+    /** Image as a subgroup of the target, built once. */
+    public synchronized Subgroup<E2> image() {
+        if (image == null) {
+            image = new Subgroup<>(target, indexedTarget.elementsOf(imageBits()));
+        }
+        return image;
+    }
+
+    /** True if the kernel is trivial. */
+    public boolean isInjective() {
+        return kernelOrder() == 1;
+    }
+
+    /** True if every target element is hit. */
+    public boolean isSurjective() {
+        return imageOrder() == indexedTarget.order();
+    }
+
+    /** True if the map is a bijection. */
+    public boolean isIsomorphism() {
+        return table.length == indexedTarget.order() && isInjective();
+    }
+
+    /**
+     * Check φ(g₁g₂) = φ(g₁)φ(g₂) for all pairs: O(|G|²) products, with the
+     * source Cayley table {@linkplain IndexedGroup#tabulate() tabulated} first.
+     */
+    public boolean isHomomorphism() {
+        indexedSource.tabulate();
+        if (table[indexedSource.identityIndex()] != indexedTarget.identityIndex()) {
+            return false;
+        }
+        for (int a = 0; a < table.length; a++) {
+            for (int b = 0; b < table.length; b++) {
+                if (table[indexedSource.multiply(a, b)] != indexedTarget.multiply(table[a], table[b])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Composition ψ ∘ φ by table lookup.
+     *
+     * @param psi homomorphism whose source is the target of this one
+     * @return the tabulated composition G → K
+     */
+    public <E3 extends Element> TabulatedHomomorphism<E1, E3> andThen(TabulatedHomomorphism<E2, E3> psi) {
+        if (!target.equals(psi.source)) {
+            throw new IllegalArgumentException("Target of phi must equal source of psi");
+        }
+        int[] composed = new int[table.length];
+        for (int id = 0; id < table.length; id++) {
+            int middle = psi.indexedSource == indexedTarget
+                    ? table[id]
+                    : psi.indexedSource.indexOf(indexedTarget.elementAt(table[id]));
+            composed[id] = psi.table[middle];
+        }
+        return new TabulatedHomomorphism<>(source, psi.target, indexedSource, psi.indexedTarget, composed);
+    }
+
+    @Override
+    public String toString() {
+        return "Tabulated(|G|=" + table.length + ", |ker|=" + kernelOrder() + ", |im|=" + imageOrder() + ")";
+    }
+}
@@ -57,5 +57,10 @@
  * @see d021248.group.homomorphism.GroupHomomorphism
  * @see d021248.group.homomorphism.Homomorphism
  * @see d021248.group.homomorphism.HomomorphismAnalyzer
+ * @see d021248.group.homomorphism.TabulatedHomomorphism
+ * @see d021248.group.homomorphism.IsomorphismFinder
+ * @see d021248.group.homomorphism.GroupFingerprint
+ * @see d021248.group.homomorphism.IsomorphismCache
+ * @see d021248.group.homomorphism.HomomorphismEnumerator
  */
 package d021248.group.homomorphism;
@@ -9,6 +9,8 @@
  * <li>Table formatting utilities
  * ({@link d021248.group.GroupTableFormatter})</li>
  * <li>Generator closure computation ({@link d021248.group.Generator})</li>
+ * <li>Integer-indexed group views with optional Cayley tables
+ * ({@link d021248.group.IndexedGroup})</li>
  * <li>Helper utilities ({@link d021248.group.GroupHelper})</li>
  * </ul>
  * 
@@ -0,0 +1,331 @@
+package d021248.group.product;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.MathUtil;
+import d021248.group.api.Element;
+import d021248.group.api.Operation;
+import d021248.group.util.Constants;
+
+/**
+ * Direct product G₀ × G₁ × … × Gₖ₋₁ of any number of finite groups.
+ * <p>
+ * Each distinct factor is indexed and {@linkplain IndexedGroup#tabulate()
+ * tabulated} once, so a power Gᵏ shares a single Cayley table of G. An element
+ * is a single long: the mixed-radix number whose digit i is the id of its
+ * component in Gᵢ, with G₀ as the least significant digit. Products and
+ * inverses decode both indices digit by digit, combine the digits in the
+ * factors and encode the result, so Z₂⁸ costs eight table lookups per product
+ * instead of eight levels of nested {@link ProductElement}s. The element set
+ * is a view of the index range and stores nothing.
+ * </p>
+ * <p>
+ * <b>Performance:</b> building costs |Gᵢ|² products per distinct factor Gᵢ.
+ * Then each product, inverse or element order costs O(k) arithmetic and
+ * factor lookups, with one {@link TupleElement} allocated for the result.
+ * Memory is that of the indexed factors, independent of |G|.
+ * </p>
+ *
+ * <pre>{@code
+ * NaryDirectProduct z2to8 = NaryDirectProduct.power(GroupFactory.cyclic(2), 8);
+ * System.out.println(z2to8.order()); // 256
+ * NaryDirectProduct z2xz3xz5 = NaryDirectProduct.of(GroupFactory.cyclic(2), GroupFactory.cyclic(3),
+ *         GroupFactory.cyclic(5));
+ * System.out.println(z2xz3xz5.exponent()); // 30
+ * }</pre>
+ */
+public final class NaryDirectProduct implements Group<TupleElement> {
+    private final List<Group<?>> factors;
+    private final IndexedGroup<?>[] indexed;
+    private final int[] radix;
+    private final long order;
+    private final Operation<TupleElement> op;
+    private final TupleElement identity;
+    private final Set<TupleElement> elements;
+
+    /**
+     * Direct product of the given factors, in order.
+     *
+     * @throws IllegalArgumentException if there are no factors or the order
+     *                                  exceeds the long range
+     */
+    public NaryDirectProduct(List<? extends Group<?>> factors) {
+        Objects.requireNonNull(factors, "factors must not be null");
+        if (factors.isEmpty()) {
+            throw new IllegalArgumentException("at least one factor is required");
+        }
+        this.factors = List.copyOf(factors);
+        int k = this.factors.size();
+        this.indexed = new IndexedGroup<?>[k];
+        this.radix = new int[k];
+        Map<Group<?>, IndexedGroup<?>> distinct = new IdentityHashMap<>();
+        long size = 1;
+        long identityIndex = 0;
+        for (int i = k - 1; i >= 0; i--) {
+            Group<?> factor = Objects.requireNonNull(this.factors.get(i), Constants.NULL_GROUP);
+            indexed[i] = distinct.computeIfAbsent(factor, f -> IndexedGroup.of(f).tabulate());
+            radix[i] = indexed[i].order();
+            try {
+                size = Math.multiplyExact(size, radix[i]);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("order of the direct product exceeds the long range", e);
+            }
+            identityIndex = identityIndex * radix[i] + indexed[i].identityIndex();
+        }
+        this.order = size;
+        this.op = (a, b) -> new TupleElement(this, multiply(own(a).index(), own(b).index()));
+        this.identity = new TupleElement(this, identityIndex);
+        this.elements = new IndexRange();
+    }
+
+    /** Direct product of the given factors, in order. */
+    public static NaryDirectProduct of(Group<?>... factors) {
+        return new NaryDirectProduct(List.of(factors));
+    }
+
+    /** The direct power Gᵏ. */
+    public static NaryDirectProduct power(Group<?> group, int k) {
+        Objects.requireNonNull(group, Constants.NULL_GROUP);
+        if (k < 1) {
+            throw new IllegalArgumentException("power must be positive, got " + k);
+        }
+        return new NaryDirectProduct(Collections.nCopies(k, group));
+    }
+
+    /** The factors G₀, …, Gₖ₋₁. */
+    public List<Group<?>> factors() {
+        return factors;
+    }
+
+    /** Number of factors k. */
+    public int factorCount() {
+        return factors.size();
+    }
+
+    /** |G| = |G₀| ⋯ |Gₖ₋₁|. */
+    public long exactOrder() {
+        return order;
+    }
+
+    /**
+     * Group order as an int.
+     *
+     * @throws ArithmeticException if the order exceeds {@link Integer#MAX_VALUE};
+     *                             use {@link #exactOrder()} instead
+     */
+    @Override
+    public int order() {
+        return Math.toIntExact(order);
+    }
+
+    /**
+     * The element with the given components.
+     *
+     * @throws IllegalArgumentException if the number of components differs
+     *                                  from the number of factors or a
+     *                                  component is not in its factor
+     */
+    public TupleElement element(Element... components) {
+        Objects.requireNonNull(components, "components must not be null");
+        if (components.length != radix.length) {
+            throw new IllegalArgumentException(
+                    "expected " + radix.length + " components, got " + components.length);
+        }
+        long index = 0;
+        for (int i = radix.length - 1; i >= 0; i--) {
+            index = index * radix[i] + idOf(indexed[i], components[i]);
+        }
+        return new TupleElement(this, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Element> int idOf(IndexedGroup<E> factor, Element component) {
+        return factor.indexOf((E) component);
+    }
+
+    /**
+     * The element with the given mixed-radix index.
+     *
+     * @throws IllegalArgumentException if the index is not in 0..|G|-1
+     */
+    public TupleElement elementAt(long index) {
+        if (index < 0 || index >= order) {
+            throw new IllegalArgumentException("index out of range: " + index);
+        }
+        return new TupleElement(this, index);
+    }
+
+    /** Component i of an element of this product. */
+    public Element component(TupleElement element, int i) {
+        Objects.checkIndex(i, radix.length);
+        return indexed[i].elementAt(digit(own(element).index(), i));
+    }
+
+    /** The components of an element of this product. */
+    public List<Element> components(TupleElement element) {
+        long rest = own(element).index();
+        List<Element> result = new ArrayList<>(radix.length);
+        for (int i = 0; i < radix.length; i++) {
+            result.add(indexed[i].elementAt((int) (rest % radix[i])));
+            rest /= radix[i];
+        }
+        return result;
+    }
+
+    private TupleElement own(TupleElement element) {
+        Objects.requireNonNull(element, Constants.NULL_ELEMENT);
+        if (element.product() != this) {
+            throw new IllegalArgumentException("element not in group: " + element);
+        }
+        return element;
+    }
+
+    private int digit(long index, int i) {
+        long rest = index;
+        for (int j = 0; j < i; j++) {
+            rest /= radix[j];
+        }
+        return (int) (rest % radix[i]);
+    }
+
+    private long multiply(long a, long b) {
+        long result = 0;
+        long weight = 1;
+        for (int i = 0; i < radix.length; i++) {
+            int n = radix[i];
+            result += weight * indexed[i].multiply((int) (a % n), (int) (b % n));
+            a /= n;
+            b /= n;
+            weight *= n;
+        }
+        return result;
+    }
+
+    String format(long index) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        long rest = index;
+        for (int i = 0; i < radix.length; i++) {
+            joiner.add(String.valueOf(indexed[i].elementAt((int) (rest % radix[i]))));
+            rest /= radix[i];
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public Set<TupleElement> elements() {
+        return elements;
+    }
+
+    @Override
+    public Operation<TupleElement> operation() {
+        return op;
+    }
+
+    @Override
+    public TupleElement identity() {
+        return identity;
+    }
+
+    @Override
+    public TupleElement inverse(TupleElement element) {
+        long rest = own(element).index();
+        long result = 0;
+        long weight = 1;
+        for (int i = 0; i < radix.length; i++) {
+            int n = radix[i];
+            result += weight * indexed[i].inverse((int) (rest % n));
+            rest /= n;
+            weight *= n;
+        }
+        return new TupleElement(this, result);
+    }
+
+    /** Element order as the lcm of the component orders. */
+    @Override
+    public int order(TupleElement element) {
+        long rest = own(element).index();
+        int result = 1;
+        for (int i = 0; i < radix.length; i++) {
+            result = MathUtil.lcm(result, indexed[i].elementOrder((int) (rest % radix[i])));
+            rest /= radix[i];
+        }
+        return result;
+    }
+
+    /** Abelian iff every factor is. */
+    @Override
+    public boolean isAbelian() {
+        for (IndexedGroup<?> factor : indexed) {
+            if (!factor.isAbelian()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Exponent as the lcm of the factor exponents. */
+    @Override
+    public int exponent() {
+        int result = 1;
+        for (IndexedGroup<?> factor : indexed) {
+            for (int g = 0; g < factor.order(); g++) {
+                result = MathUtil.lcm(result, factor.elementOrder(g));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(" × ", "DirectProduct(", ")");
+        for (IndexedGroup<?> factor : indexed) {
+            joiner.add("order " + factor.order());
+        }
+        return joiner.toString();
+    }
+
+    /** The elements with index 0..|G|-1, created on iteration. */
+    private final class IndexRange extends AbstractSet<TupleElement> {
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof TupleElement t && t.product() == NaryDirectProduct.this;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(order, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Iterator<TupleElement> iterator() {
+            return new Iterator<>() {
+                private long next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < order;
+                }
+
+                @Override
+                public TupleElement next() {
+                    if (next >= order) {
+                        throw new NoSuchElementException();
+                    }
+                    return new TupleElement(NaryDirectProduct.this, next++);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package d021248.group.product;
+
+import d021248.group.api.Element;
+
+/**
+ * Element of an {@link NaryDirectProduct}, stored as its mixed-radix index
+ * Σ cᵢ · (n₀ ⋯ nᵢ₋₁) over the ids cᵢ of its components in the factors.
+ * <p>
+ * Two tuple elements are equal if they belong to the same product and have
+ * the same index.
+ * </p>
+ */
+public final class TupleElement implements Element {
+    private final NaryDirectProduct product;
+    private final long index;
+
+    TupleElement(NaryDirectProduct product, long index) {
+        this.product = product;
+        this.index = index;
+    }
+
+    /** The product this element belongs to. */
+    public NaryDirectProduct product() {
+        return product;
+    }
+
+    /** The mixed-radix index, in 0..|G|-1. */
+    public long index() {
+        return index;
+    }
+
+    /** Component i, an element of factor i. */
+    public Element component(int i) {
+        return product.component(this, i);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TupleElement t && t.index == index && t.product == product;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(index);
+    }
+
+    @Override
+    public String toString() {
+        return product.format(index);
+    }
+}
@@ -1,5 +1,6 @@
 /**
- * Direct products of groups (G₁ × G₂).
+ * Direct products of groups (G₁ × G₂, and G₀ × … × Gₖ₋₁ for any k) and
+ * semidirect products N ⋊ H.
  * <p>
  * The direct product combines two groups with component-wise operation:
  * (a₁, a₂) * (b₁, b₂) = (a₁ *₁ b₁, a₂ *₂ b₂)
@@ -8,6 +9,10 @@
  * <p>
  * Order: |G₁ × G₂| = |G₁| · |G₂|
  * </p>
+ * <p>
+ * Semidirect products N ⋊_φ H twist the first component by a homomorphism
+ * φ: H → Aut(N): (n₁, h₁) * (n₂, h₂) = (n₁ · φ(h₁)(n₂), h₁ · h₂).
+ * </p>
  * 
  * <p>
  * Example:
@@ -19,9 +24,14 @@
  * DirectProduct<CyclicElement, CyclicElement> z2xz3 = GroupFactory.directProduct(z2, z3);
  * // Klein four-group: V₄ = Z₂ × Z₂
  * var v4 = GroupFactory.directProduct(z2, z2);
+ * // Z₂⁸ with elements encoded as single mixed-radix indices
+ * NaryDirectProduct z2to8 = GroupFactory.directPower(z2, 8);
  * }</pre>
  * 
  * @see d021248.group.product.DirectProduct
  * @see d021248.group.product.ProductElement
+ * @see d021248.group.product.NaryDirectProduct
+ * @see d021248.group.product.TupleElement
+ * @see d021248.group.product.SemidirectProduct
  */
 package d021248.group.product;
@@ -2,6 +2,7 @@ package d021248.group.quotient;
 
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import d021248.group.Group;
 import d021248.group.api.Element;
@@ -14,9 +15,15 @@ import d021248.group.subgroup.Subgroup;
  * Two cosets are equal if they represent the same set of elements.
  * </p>
  * <p>
+ * The element set is computed once at construction, so {@link #hashCode()} is
+ * constant-time and {@link #equals(Object)} is constant-time for cosets of the
+ * same subgroup (two such cosets are either equal or disjoint, so a single
+ * membership test decides equality).
+ * </p>
+ * <p>
  * Example:
  * </p>
- * 
+ *
  * <pre>
  * {
  *     &#64;code
@@ -24,40 +31,68 @@ import d021248.group.subgroup.Subgroup;
  *     // Cosets are: 0H = {0,3}, 1H = {1,4}, 2H = {2,5}
  *     CyclicGroup z6 = new CyclicGroup(6);
  *     Subgroup<CyclicElement> h = SubgroupGenerator.generate(z6, Set.of(new CyclicElement(3, 6)));
- * 
+ *
  *     Coset<CyclicElement> coset0 = new Coset<>(z6, h, new CyclicElement(0, 6));
  *     Coset<CyclicElement> coset1 = new Coset<>(z6, h, new CyclicElement(1, 6));
  * }
  * </pre>
- * 
+ *
  * @param <E> the type of group elements
  */
-public record Coset<E extends Element>(Group<E> parent, Subgroup<E> subgroup,
-        E representative) implements Element {
+public final class Coset<E extends Element> implements Element {
+    private final Group<E> parent;
+    private final Subgroup<E> subgroup;
+    private final E representative;
+    private final Set<E> elements;
+    private final int hash;
 
-    public Coset {
-        Objects.requireNonNull(parent, "parent group must not be null");
-        Objects.requireNonNull(subgroup, "subgroup must not be null");
-        Objects.requireNonNull(representative, "representative must not be null");
+    public Coset(Group<E> parent, Subgroup<E> subgroup, E representative) {
+        this.parent = Objects.requireNonNull(parent, "parent group must not be null");
+        this.subgroup = Objects.requireNonNull(subgroup, "subgroup must not be null");
+        this.representative = Objects.requireNonNull(representative, "representative must not be null");
         if (!parent.elements().contains(representative)) {
             throw new IllegalArgumentException("representative must be in parent group");
         }
+        this.elements = subgroup.elements().stream()
+                .map(h -> parent.operate(representative, h))
+                .collect(Collectors.toUnmodifiableSet());
+        this.hash = elements.hashCode();
+    }
+
+    /** The parent group G. */
+    public Group<E> parent() {
+        return parent;
+    }
+
+    /** The subgroup H. */
+    public Subgroup<E> subgroup() {
+        return subgroup;
+    }
+
+    /** The representative g this coset was constructed from. */
+    public E representative() {
+        return representative;
     }
 
     /**
-     * Compute all elements in this coset (left coset gH).
+     * All elements in this coset (left coset gH), computed once at construction.
      */
     public Set<E> elements() {
-        return subgroup.elements().stream()
-                .map(h -> parent.operate(representative, h))
-                .collect(java.util.stream.Collectors.toUnmodifiableSet());
+        return elements;
+    }
+
+    /**
+     * Check membership of an element in this coset.
+     */
+    public boolean contains(E element) {
+        return elements.contains(element);
     }
 
     /**
      * Two cosets are equal if they contain the same elements.
      * <p>
-     * For normal subgroups, this is equivalent to checking if representatives
-     * differ by an element of H.
+     * For cosets of the same subgroup this reduces to checking whether the other
+     * representative lies in this coset.
      * </p>
      */
     @Override
@@ -66,13 +101,17 @@ public record Coset<E extends Element>(Group<E> parent, Subgroup<E> subgroup,
             return true;
         if (!(o instanceof Coset<?> other))
             return false;
-        return elements().equals(other.elements());
+        if (hash != other.hash || elements.size() != other.elements.size())
+            return false;
+        if (subgroup == other.subgroup)
+            return elements.contains(other.representative);
+        return elements.equals(other.elements);
     }
 
     @Override
     public int hashCode() {
-        // Use hash of element set for consistency with equals
-        return elements().hashCode();
+        // Hash of the element set, cached for consistency with equals
+        return hash;
     }
 
     @Override
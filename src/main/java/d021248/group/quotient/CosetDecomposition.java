@@ -0,0 +1,209 @@
+package d021248.group.quotient;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.util.Constants;
+
+/**
+ * Decomposition of a finite group G into the left cosets gH or right cosets Hg
+ * of an arbitrary (not necessarily normal) subgroup H.
+ * <p>
+ * Cosets are labelled lazily: the parent elements are swept in id order and
+ * every element not yet covered becomes the representative of a new coset,
+ * whose members are labelled by one pass over H. Coset ids are therefore
+ * canonical (ordered by their first parent element, with H itself first) and
+ * independent of query order. Only an {@code int} label per parent element and
+ * an {@code int} representative per coset are kept; no coset objects are
+ * materialized, so indices in the millions stay cheap.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, since queries may extend the labelling.
+ * </p>
+ *
+ * <pre>{@code
+ * SymmetricGroup s4 = new SymmetricGroup(4);
+ * Subgroup<Permutation> s3 = ...; // stabilizer of the point 4
+ * CosetDecomposition<Permutation> cosets = CosetDecomposition.left(s4, s3);
+ * System.out.println(cosets.index()); // 4
+ * Permutation rep = cosets.permutation(Permutation.cycle(1, 2, 3, 4)); // action on the 4 cosets
+ * }</pre>
+ *
+ * @param <E> the type of group elements
+ */
+public final class CosetDecomposition<E extends Element> {
+
+    /** Which cosets to decompose into. */
+    public enum Side {
+        /** Left cosets gH. */
+        LEFT,
+        /** Right cosets Hg. */
+        RIGHT
+    }
+
+    private final IndexedGroup<E> parent;
+    private final Subgroup<E> subgroup;
+    private final Side side;
+    private final int[] subgroupIds;
+    private final int[] cosetOf;
+    private final int[] representatives;
+    private int count;
+    private int cursor;
+
+    /**
+     * Create a coset decomposition of G with respect to H.
+     *
+     * @param parent   the parent group G
+     * @param subgroup the subgroup H
+     * @param side     left or right cosets
+     * @throws IllegalArgumentException if H contains elements outside G
+     */
+    public CosetDecomposition(Group<E> parent, Subgroup<E> subgroup, Side side) {
+        this.parent = IndexedGroup.of(Objects.requireNonNull(parent, Constants.NULL_PARENT));
+        this.subgroup = Objects.requireNonNull(subgroup, Constants.NULL_SUBGROUP);
+        this.side = Objects.requireNonNull(side, "side must not be null");
+        this.subgroupIds = subgroup.elements().stream().mapToInt(this.parent::indexOf).toArray();
+        if (this.parent.order() % subgroupIds.length != 0) {
+            throw new IllegalArgumentException("subgroup order must divide parent order");
+        }
+        this.cosetOf = new int[this.parent.order()];
+        Arrays.fill(cosetOf, -1);
+        this.representatives = new int[this.parent.order() / subgroupIds.length];
+        label(this.parent.identityIndex());
+    }
+
+    /** Left coset decomposition G = ⋃ gH. */
+    public static <E extends Element> CosetDecomposition<E> left(Group<E> parent, Subgroup<E> subgroup) {
+        return new CosetDecomposition<>(parent, subgroup, Side.LEFT);
+    }
+
+    /** Right coset decomposition G = ⋃ Hg. */
+    public static <E extends Element> CosetDecomposition<E> right(Group<E> parent, Subgroup<E> subgroup) {
+        return new CosetDecomposition<>(parent, subgroup, Side.RIGHT);
+    }
+
+    private void label(int rep) {
+        int id = count++;
+        representatives[id] = rep;
+        for (int h : subgroupIds) {
+            int member = side == Side.LEFT ? parent.multiply(rep, h) : parent.multiply(h, rep);
+            cosetOf[member] = id;
+        }
+    }
+
+    /** Advance the sweep until the parent element with the given id is labelled. */
+    private void labelUpTo(int parentId) {
+        while (cosetOf[parentId] < 0) {
+            if (cosetOf[cursor] < 0) {
+                label(cursor);
+            }
+            cursor++;
+        }
+    }
+
+    /** Advance the sweep until at least {@code n} cosets are labelled. */
+    private void labelCount(int n) {
+        while (count < n) {
+            if (cosetOf[cursor] < 0) {
+                label(cursor);
+            }
+            cursor++;
+        }
+    }
+
+    /** The parent group G (indexed). */
+    public IndexedGroup<E> parent() {
+        return parent;
+    }
+
+    /** The subgroup H. */
+    public Subgroup<E> subgroup() {
+        return subgroup;
+    }
+
+    /** Whether these are left or right cosets. */
+    public Side side() {
+        return side;
+    }
+
+    /** Number of cosets [G : H] = |G| / |H|. */
+    public int index() {
+        return representatives.length;
+    }
+
+    /**
+     * Id of the coset containing the given element. H itself has id 0.
+     *
+     * @throws IllegalArgumentException if g is not in the parent group
+     */
+    public int cosetIndex(E g) {
+        return cosetIndex(parent.indexOf(g));
+    }
+
+    /** Id of the coset containing the parent element with the given id. */
+    public int cosetIndex(int parentId) {
+        labelUpTo(parentId);
+        return cosetOf[parentId];
+    }
+
+    /** Representative of the coset with the given id. */
+    public E representative(int cosetId) {
+        return parent.elementAt(representativeIndex(cosetId));
+    }
+
+    /** Parent id of the representative of the coset with the given id. */
+    public int representativeIndex(int cosetId) {
+        Objects.checkIndex(cosetId, representatives.length);
+        labelCount(cosetId + 1);
+        return representatives[cosetId];
+    }
+
+    /**
+     * Lazily stream a transversal (one representative per coset) in coset id
+     * order. Cosets are labelled only as far as the stream is consumed.
+     */
+    public Stream<E> transversal() {
+        return IntStream.range(0, representatives.length).mapToObj(this::representative);
+    }
+
+    /** Materialize the elements of the coset with the given id. */
+    public Set<E> coset(int cosetId) {
+        int rep = representativeIndex(cosetId);
+        Set<E> result = new HashSet<>();
+        for (int h : subgroupIds) {
+            result.add(parent.elementAt(side == Side.LEFT ? parent.multiply(rep, h) : parent.multiply(h, rep)));
+        }
+        return result;
+    }
+
+    /**
+     * Permutation induced by g on the cosets (points 1..index). Left cosets
+     * transform as g · xH = (gx)H, right cosets as g · Hx = H(xg⁻¹); both are
+     * left actions, so the map g ↦ permutation is a homomorphism into S_index.
+     */
+    public Permutation permutation(E g) {
+        int gId = parent.indexOf(g);
+        int gInv = parent.inverse(gId);
+        int[] mapping = new int[representatives.length];
+        for (int i = 0; i < mapping.length; i++) {
+            int rep = representativeIndex(i);
+            int image = side == Side.LEFT ? parent.multiply(gId, rep) : parent.multiply(rep, gInv);
+            mapping[i] = cosetIndex(image) + 1;
+        }
+        return new Permutation(mapping);
+    }
+
+    @Override
+    public String toString() {
+        return (side == Side.LEFT ? "G/H" : "H\\G") + " with [G:H]=" + index();
+    }
+}
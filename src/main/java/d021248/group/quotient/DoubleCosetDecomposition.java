@@ -0,0 +1,167 @@
+package d021248.group.quotient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import d021248.group.Group;
+import d021248.group.IndexedGroup;
+import d021248.group.api.Element;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.util.Constants;
+
+/**
+ * Decomposition of a finite group G into double cosets HxK = {hxk : h ∈ H,
+ * k ∈ K} for subgroups H, K ≤ G.
+ * <p>
+ * Double cosets are computed as the orbits of H acting by left multiplication
+ * on the left cosets G/K: the orbit of xK is exactly the set of cosets
+ * contained in HxK. Orbits are found by breadth-first search over a small
+ * generating set of H, so the cost is O([G:K] · |gens(H)|) coset lookups and no
+ * product sets are ever formed or deduplicated.
+ * </p>
+ * <p>
+ * Properties:
+ * </p>
+ * <ul>
+ * <li>Double cosets partition G</li>
+ * <li>|HxK| = |H| · |K| / |H ∩ xKx⁻¹|</li>
+ * <li>The number of double cosets equals the number of H-orbits on G/K</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * SymmetricGroup s4 = new SymmetricGroup(4);
+ * Subgroup<Permutation> s3 = ...; // stabilizer of the point 4
+ * DoubleCosetDecomposition<Permutation> dc = new DoubleCosetDecomposition<>(s4, s3, s3);
+ * System.out.println(dc.count()); // 2 (sizes 6 and 18)
+ * }</pre>
+ *
+ * @param <E> the type of group elements
+ */
+public final class DoubleCosetDecomposition<E extends Element> {
+    private final Subgroup<E> left;
+    private final Subgroup<E> right;
+    private final CosetDecomposition<E> cosets;
+    private final int[] orbitOf;
+    private final int[] representatives;
+    private final int[] orbitSizes;
+
+    /**
+     * Compute the double cosets H\G/K.
+     *
+     * @param parent the group G
+     * @param left   the subgroup H acting on the left
+     * @param right  the subgroup K acting on the right
+     */
+    public DoubleCosetDecomposition(Group<E> parent, Subgroup<E> left, Subgroup<E> right) {
+        Objects.requireNonNull(parent, Constants.NULL_PARENT);
+        this.left = Objects.requireNonNull(left, Constants.NULL_SUBGROUP);
+        this.right = Objects.requireNonNull(right, Constants.NULL_SUBGROUP);
+        this.cosets = CosetDecomposition.left(parent, right);
+
+        IndexedGroup<E> indexed = cosets.parent();
+        int[] leftIds = left.elements().stream().mapToInt(indexed::indexOf).toArray();
+        int[] gens = indexed.generatingSet(leftIds);
+
+        int m = cosets.index();
+        this.orbitOf = new int[m];
+        Arrays.fill(orbitOf, -1);
+        List<Integer> reps = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        int[] queue = new int[m];
+        for (int start = 0; start < m; start++) {
+            if (orbitOf[start] >= 0) {
+                continue;
+            }
+            int id = reps.size();
+            int head = 0;
+            int tail = 0;
+            orbitOf[start] = id;
+            queue[tail++] = start;
+            while (head < tail) {
+                int rep = cosets.representativeIndex(queue[head++]);
+                for (int h : gens) {
+                    int image = cosets.cosetIndex(indexed.multiply(h, rep));
+                    if (orbitOf[image] < 0) {
+                        orbitOf[image] = id;
+                        queue[tail++] = image;
+                    }
+                }
+            }
+            reps.add(cosets.representativeIndex(start));
+            sizes.add(tail);
+        }
+        this.representatives = reps.stream().mapToInt(Integer::intValue).toArray();
+        this.orbitSizes = sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** The subgroup H acting on the left. */
+    public Subgroup<E> left() {
+        return left;
+    }
+
+    /** The subgroup K acting on the right. */
+    public Subgroup<E> right() {
+        return right;
+    }
+
+    /** Number of double cosets |H\G/K|. */
+    public int count() {
+        return representatives.length;
+    }
+
+    /**
+     * Id of the double coset containing g, in O(1) via the coset label of gK.
+     *
+     * @throws IllegalArgumentException if g is not in the parent group
+     */
+    public int doubleCosetIndex(E g) {
+        return orbitOf[cosets.cosetIndex(g)];
+    }
+
+    /** Representative x of the double coset HxK with the given id. */
+    public E representative(int id) {
+        return cosets.parent().elementAt(representatives[id]);
+    }
+
+    /** Representatives of all double cosets, in id order. */
+    public List<E> representatives() {
+        List<E> result = new ArrayList<>(representatives.length);
+        for (int i = 0; i < representatives.length; i++) {
+            result.add(representative(i));
+        }
+        return result;
+    }
+
+    /**
+     * Number of left K-cosets in the double coset, i.e. the size of the H-orbit
+     * on G/K.
+     */
+    public int cosetCount(int id) {
+        return orbitSizes[id];
+    }
+
+    /** Size |HxK| = |H| · |K| / |H ∩ xKx⁻¹| of the double coset. */
+    public int size(int id) {
+        return orbitSizes[id] * right.order();
+    }
+
+    /** Materialize the elements of the double coset with the given id. */
+    public Set<E> elements(int id) {
+        Set<E> result = new HashSet<>();
+        for (int c = 0; c < orbitOf.length; c++) {
+            if (orbitOf[c] == id) {
+                result.addAll(cosets.coset(c));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "H\\G/K with " + count() + " double cosets";
+    }
+}
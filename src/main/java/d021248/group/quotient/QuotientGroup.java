@@ -1,14 +1,19 @@
 package d021248.group.quotient;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import d021248.group.Group;
+import d021248.group.IndexedGroup;
 import d021248.group.api.Element;
 import d021248.group.api.Operation;
+import d021248.group.homomorphism.Homomorphism;
 import d021248.group.subgroup.Subgroup;
 import d021248.group.subgroup.SubgroupAnalyzer;
+import d021248.group.util.Constants;
 
 /**
  * Quotient group G/H where H is a normal subgroup of G.
@@ -25,6 +30,15 @@ import d021248.group.subgroup.SubgroupAnalyzer;
  * The quotient group has order |G|/|H| by Lagrange's theorem.
  * </p>
  * <p>
+ * Cosets are interned at construction: every parent element id is labelled
+ * with the id of its coset ({@code int[] cosetOf}) at a cost of |G| products,
+ * so inverses and the natural projection G → G/H are O(1) lookups and a
+ * product of cosets costs one product of representatives. {@link #tabulate()}
+ * precomputes the k×k quotient Cayley table over coset ids (for k up to
+ * {@value d021248.group.util.Constants#MAX_CAYLEY_TABLE_ORDER}), after which
+ * products are lookups too.
+ * </p>
+ * <p>
  * Example:
  * </p>
  *
@@ -43,9 +57,14 @@ import d021248.group.subgroup.SubgroupAnalyzer;
 public final class QuotientGroup<E extends Element> implements Group<Coset<E>> {
     private final Group<E> parent;
     private final Subgroup<E> normalSubgroup;
+    private final IndexedGroup<E> indexed;
+    private final int[] cosetOf;
+    private final int[] representatives;
+    private final List<Coset<E>> cosetList;
+    private volatile int[][] table;
+    private final int[] inverses;
     private final Set<Coset<E>> cosets;
     private final Operation<Coset<E>> operation;
-    private final Coset<E> identity;
 
     /**
      * Create quotient group G/H.
@@ -57,38 +76,134 @@ public final class QuotientGroup<E extends Element> implements Group<Coset<E>> {
     public QuotientGroup(Group<E> parent, Subgroup<E> normalSubgroup) {
         this.parent = Objects.requireNonNull(parent, "parent group must not be null");
         this.normalSubgroup = Objects.requireNonNull(normalSubgroup, "normal subgroup must not be null");
+        this.indexed = IndexedGroup.of(parent);
 
-        if (!SubgroupAnalyzer.isNormal(parent, normalSubgroup)) {
+        if (!SubgroupAnalyzer.isNormal(indexed, normalSubgroup)) {
             throw new IllegalArgumentException("Subgroup must be normal for quotient group to be well-defined");
         }
 
-        this.cosets = generateCosets();
+        this.cosetOf = new int[indexed.order()];
+        this.representatives = labelCosets();
+        this.cosetList = buildCosets();
+        this.inverses = new int[representatives.length];
+        for (int i = 0; i < inverses.length; i++) {
+            inverses[i] = cosetOf[indexed.inverse(representatives[i])];
+        }
+        this.cosets = Set.copyOf(cosetList);
         this.operation = this::operateInternal;
-        this.identity = new Coset<>(parent, normalSubgroup, parent.identity());
     }
 
-    private Set<Coset<E>> generateCosets() {
-        Set<Coset<E>> result = new HashSet<>();
-        Set<Set<E>> seenCosetElements = new HashSet<>();
+    /**
+     * Label every parent element with the id of its coset by sweeping gH for
+     * each unlabelled g. Coset 0 is H itself. Costs |G| products in total.
+     */
+    private int[] labelCosets() {
+        int[] h = normalSubgroup.elements().stream().mapToInt(indexed::indexOf).toArray();
+        int[] reps = new int[indexed.order() / h.length];
+        Arrays.fill(cosetOf, -1);
+        int count = 0;
+        reps[count] = label(indexed.identityIndex(), count, h);
+        count++;
+        for (int g = 0; g < indexed.order(); g++) {
+            if (cosetOf[g] < 0) {
+                reps[count] = label(g, count, h);
+                count++;
+            }
+        }
+        return reps;
+    }
 
-        for (E g : parent.elements()) {
-            Coset<E> coset = new Coset<>(parent, normalSubgroup, g);
-            Set<E> cosetElements = coset.elements();
+    private int label(int rep, int id, int[] h) {
+        for (int x : h) {
+            cosetOf[indexed.multiply(rep, x)] = id;
+        }
+        return rep;
+    }
 
-            // Only add if we haven't seen this coset before
-            if (!seenCosetElements.contains(cosetElements)) {
-                result.add(coset);
-                seenCosetElements.add(cosetElements);
-            }
+    private List<Coset<E>> buildCosets() {
+        List<Coset<E>> result = new ArrayList<>(representatives.length);
+        for (int rep : representatives) {
+            result.add(new Coset<>(parent, normalSubgroup, indexed.elementAt(rep)));
         }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Precompute the quotient Cayley table so that {@link #multiply(int, int)}
+     * is a single array lookup. Costs k² products of representatives for
+     * k = |G/H|; does nothing if the table exists or k exceeds
+     * {@value d021248.group.util.Constants#MAX_CAYLEY_TABLE_ORDER}.
+     *
+     * @return this quotient group
+     */
+    public synchronized QuotientGroup<E> tabulate() {
+        if (table == null && representatives.length <= Constants.MAX_CAYLEY_TABLE_ORDER) {
+            table = buildTable();
+        }
+        return this;
+    }
 
-        return Set.copyOf(result);
+    private int[][] buildTable() {
+        int k = representatives.length;
+        int[][] result = new int[k][k];
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < k; j++) {
+                result[i][j] = cosetOf[indexed.multiply(representatives[i], representatives[j])];
+            }
+        }
+        return result;
     }
 
     private Coset<E> operateInternal(Coset<E> a, Coset<E> b) {
         // (g₁H)(g₂H) = (g₁g₂)H
-        E product = parent.operate(a.representative(), b.representative());
-        return new Coset<>(parent, normalSubgroup, product);
+        return cosetList.get(multiply(cosetIndex(a), cosetIndex(b)));
+    }
+
+    /**
+     * Id (0..|G/H|-1) of the coset containing the given parent element. The
+     * subgroup H itself has id 0.
+     *
+     * @throws IllegalArgumentException if g is not in the parent group
+     */
+    public int cosetIndex(E g) {
+        return cosetOf[indexed.indexOf(g)];
+    }
+
+    /** Id of a coset of this quotient. */
+    public int cosetIndex(Coset<E> coset) {
+        return cosetIndex(coset.representative());
+    }
+
+    /** Coset with the given id. */
+    public Coset<E> cosetAt(int id) {
+        return cosetList.get(id);
+    }
+
+    /** Id of the product of the cosets with ids a and b. */
+    public int multiply(int a, int b) {
+        int[][] cayley = table;
+        if (cayley != null) {
+            return cayley[a][b];
+        }
+        return cosetOf[indexed.multiply(representatives[a], representatives[b])];
+    }
+
+    /**
+     * Natural projection G → G/H, mapping g to the coset gH.
+     *
+     * @param g an element of the parent group
+     * @return the interned coset containing g
+     * @throws IllegalArgumentException if g is not in the parent group
+     */
+    public Coset<E> project(E g) {
+        return cosetList.get(cosetIndex(g));
+    }
+
+    /**
+     * The natural projection as a homomorphism G → G/H with kernel H.
+     */
+    public Homomorphism<E, Coset<E>> naturalProjection() {
+        return new Homomorphism<>(parent, this, this::project);
     }
 
     @Override
@@ -103,13 +218,17 @@ public final class QuotientGroup<E extends Element> implements Group<Coset<E>> {
 
     @Override
     public Coset<E> identity() {
-        return identity;
+        return cosetList.get(0);
     }
 
     @Override
     public Coset<E> inverse(Coset<E> element) {
-        E invRep = parent.inverse(element.representative());
-        return new Coset<>(parent, normalSubgroup, invRep);
+        return cosetList.get(inverses[cosetIndex(element)]);
+    }
+
+    @Override
+    public int order() {
+        return representatives.length;
     }
 
     /**
@@ -8,6 +8,17 @@
  * <p>
  * Order: |G/H| = |G| / |H| (by Lagrange's theorem)
  * </p>
+ *
+ * <p>
+ * For arbitrary (not necessarily normal) subgroups,
+ * {@link d021248.group.quotient.CosetDecomposition} enumerates left or right
+ * cosets lazily and maps elements to coset ids without materializing cosets.
+ * {@link d021248.group.quotient.DoubleCosetDecomposition} computes double
+ * cosets HxK as orbits of H on G/K.
+ * {@link d021248.group.quotient.PermutationQuotient} builds G/N for
+ * generator-defined permutation groups as a permutation group on the cosets of
+ * N, without enumerating G.
+ * </p>
  * 
  * <p>
  * Example:
@@ -23,5 +34,8 @@
  * 
  * @see d021248.group.quotient.QuotientGroup
  * @see d021248.group.quotient.Coset
+ * @see d021248.group.quotient.CosetDecomposition
+ * @see d021248.group.quotient.DoubleCosetDecomposition
+ * @see d021248.group.quotient.PermutationQuotient
  */
 package d021248.group.quotient;
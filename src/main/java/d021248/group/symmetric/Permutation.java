@@ -52,6 +52,11 @@ public record Permutation(int[] mapping) implements Element, Comparable<Permutat
         return Arrays.copyOf(mapping, mapping.length);
     }
 
+    /** Image of the point i (1-based), without copying the mapping. */
+    public int apply(int i) {
+        return mapping[i - 1];
+    }
+
     /** Package-private raw access for internal operations to reduce allocations. */
     int[] raw() {
         return mapping; // safe because callers are trusted inside package
@@ -0,0 +1,475 @@
+package d021248.group.symmetric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import d021248.group.Group;
+import d021248.group.MathUtil;
+import d021248.group.api.Operation;
+import d021248.group.util.Constants;
+
+/**
+ * Permutation group of degree n defined by a set of generators.
+ * <p>
+ * Unlike {@link SymmetricGroup} and {@link AlternatingGroup}, elements are never
+ * enumerated up front. Construction runs the Schreier–Sims algorithm to build a
+ * stabilizer chain G = G⁽⁰⁾ ≥ G⁽¹⁾ ≥ ... ≥ G⁽ᵏ⁾ = 1, where G⁽ⁱ⁾ fixes the base
+ * points β₀..βᵢ₋₁. The chain yields the exact order as the product of the
+ * basic orbit lengths and decides membership by sifting in O(k · n), so groups
+ * far too large to enumerate (S_20, wreath products, ...) remain usable.
+ * {@link #elements()} is materialized lazily on first call.
+ * </p>
+ * <p>
+ * Points are 1-based, matching {@link Permutation}; the product a * b is the
+ * composition a ∘ b (apply b first).
+ * </p>
+ *
+ * <pre>{@code
+ * PermutationGroup s20 = PermutationGroup.of(
+ *         Permutation.cycle(IntStream.rangeClosed(1, 20).toArray()),
+ *         Permutation.transposition(1, 2, 20));
+ * System.out.println(s20.exactOrder()); // 2432902008176640000
+ * System.out.println(s20.contains(Permutation.transposition(3, 11, 20))); // true
+ * }</pre>
+ */
+public final class PermutationGroup implements Group<Permutation> {
+    private final int degree;
+    private final List<Permutation> generators;
+    private final Permutation identity;
+    private final Operation<Permutation> op = Permutation::compose;
+    private final List<Level> levels = new ArrayList<>();
+    private Set<Permutation> elements;
+
+    /**
+     * One level of the stabilizer chain: the base point, the strong generators
+     * fixing all earlier base points, and the basic orbit with transversal
+     * elements u_p (0-based arrays) satisfying u_p(β) = p. While the chain is
+     * built, checked[p] counts the generators whose Schreier generators at p
+     * have been sifted.
+     */
+    private static final class Level {
+        final int basePoint;
+        final List<int[]> gens = new ArrayList<>();
+        int[] orbit;
+        int[][] transversal;
+        int[][] inverseTransversal;
+        int[] checked;
+
+        Level(int basePoint) {
+            this.basePoint = basePoint;
+        }
+    }
+
+    /**
+     * Create the group generated by the given permutations.
+     *
+     * @param degree     number of points (all generators must have this size)
+     * @param generators generating permutations (may be empty for the trivial
+     *                   group)
+     */
+    public PermutationGroup(int degree, Collection<Permutation> generators) {
+        this(degree, generators, new int[0]);
+    }
+
+    /**
+     * Create the group generated by the given permutations, using the given
+     * points (1-based) as the first base points of the stabilizer chain.
+     */
+    public PermutationGroup(int degree, Collection<Permutation> generators, int[] basePrefix) {
+        if (degree < 1)
+            throw new IllegalArgumentException("degree must be >= 1");
+        Objects.requireNonNull(generators, Constants.NULL_GENERATORS);
+        Objects.requireNonNull(basePrefix, "base prefix must not be null");
+        for (Permutation g : generators) {
+            if (g.size() != degree)
+                throw new IllegalArgumentException("generator " + g + " does not have degree " + degree);
+        }
+        this.degree = degree;
+        this.generators = List.copyOf(generators);
+        this.identity = PermutationFactory.identity(degree);
+        schreierSims(basePrefix);
+    }
+
+    /** Create the group generated by the given (non-empty) permutations. */
+    public static PermutationGroup of(Permutation... generators) {
+        if (generators.length == 0)
+            throw new IllegalArgumentException("at least one generator is required");
+        return new PermutationGroup(generators[0].size(), List.of(generators));
+    }
+
+    /**
+     * Rebuild the stabilizer chain with the given points (1-based) as leading
+     * base points. The group itself is unchanged.
+     */
+    public PermutationGroup withBase(int... basePrefix) {
+        return new PermutationGroup(degree, generators, basePrefix);
+    }
+
+    // ---- Schreier–Sims ---------------------------------------------------
+
+    private void schreierSims(int[] basePrefix) {
+        List<int[]> strong = new ArrayList<>();
+        for (Permutation g : generators) {
+            int[] s = toArray(g);
+            if (!isIdentity(s))
+                strong.add(s);
+        }
+        for (int point : basePrefix) {
+            if (point < 1 || point > degree)
+                throw new IllegalArgumentException("base point out of range: " + point);
+            if (levels.stream().noneMatch(l -> l.basePoint == point - 1))
+                levels.add(new Level(point - 1));
+        }
+        for (int[] s : strong) {
+            if (fixesBase(s, levels.size()))
+                levels.add(new Level(firstMovedPoint(s)));
+        }
+        for (int i = 0; i < levels.size(); i++) {
+            for (int[] s : strong) {
+                if (fixesBase(s, i))
+                    levels.get(i).gens.add(s);
+            }
+            computeOrbit(levels.get(i));
+        }
+
+        int i = levels.size() - 1;
+        while (i >= 0) {
+            int next = extendLevel(i);
+            i = next >= 0 ? next : i - 1;
+        }
+    }
+
+    /**
+     * Sift the Schreier generators of level i that have not been sifted yet.
+     * Returns the level to continue at if a new strong generator was added, or
+     * -1 if level i is complete. Orbits and transversals only ever grow, so a
+     * Schreier generator that sifted once stays sifted and the level resumes
+     * where it stopped.
+     */
+    private int extendLevel(int i) {
+        Level level = levels.get(i);
+        int genCount = level.gens.size(); // only deeper levels gain generators here
+        for (int p : level.orbit) {
+            for (int k = level.checked[p]; k < genCount; k++) {
+                int[] s = level.gens.get(k);
+                int sp = s[p];
+                int[] schreier = compose(level.inverseTransversal[sp], compose(s, level.transversal[p]));
+                int[] residue = schreier;
+                int j = i + 1;
+                for (; j < levels.size(); j++) {
+                    Level l = levels.get(j);
+                    int[] u = l.inverseTransversal[residue[l.basePoint]];
+                    if (u == null)
+                        break;
+                    residue = compose(u, residue);
+                }
+                if (j < levels.size() || !isIdentity(residue)) {
+                    if (j == levels.size()) {
+                        Level added = new Level(firstMovedPoint(residue));
+                        computeOrbit(added);
+                        levels.add(added);
+                    }
+                    for (int l = i + 1; l <= j; l++) {
+                        addGenerator(levels.get(l), residue);
+                    }
+                    // the residue is now a strong generator, so this one sifts
+                    level.checked[p] = k + 1;
+                    return j;
+                }
+            }
+            level.checked[p] = genCount;
+        }
+        return -1;
+    }
+
+    /**
+     * Add a strong generator to a level and extend its orbit, keeping the
+     * transversal elements of the points already in it.
+     */
+    private void addGenerator(Level level, int[] s) {
+        level.gens.add(s);
+        int known = level.orbit.length;
+        int[] orbit = Arrays.copyOf(level.orbit, degree);
+        int size = known;
+        for (int head = 0; head < size; head++) {
+            int q = orbit[head];
+            // old points are closed under the old generators
+            for (int[] t : head < known ? List.of(s) : level.gens) {
+                int r = t[q];
+                if (level.transversal[r] == null) {
+                    level.transversal[r] = compose(t, level.transversal[q]);
+                    level.inverseTransversal[r] = invert(level.transversal[r]);
+                    orbit[size++] = r;
+                }
+            }
+        }
+        level.orbit = Arrays.copyOf(orbit, size);
+    }
+
+    private void computeOrbit(Level level) {
+        int[][] transversal = new int[degree][];
+        int[][] inverse = new int[degree][];
+        int[] orbit = new int[degree];
+        int size = 0;
+        int[] id = identityArray();
+        transversal[level.basePoint] = id;
+        inverse[level.basePoint] = id;
+        orbit[size++] = level.basePoint;
+        for (int head = 0; head < size; head++) {
+            int q = orbit[head];
+            for (int[] s : level.gens) {
+                int r = s[q];
+                if (transversal[r] == null) {
+                    transversal[r] = compose(s, transversal[q]);
+                    inverse[r] = invert(transversal[r]);
+                    orbit[size++] = r;
+                }
+            }
+        }
+        level.orbit = Arrays.copyOf(orbit, size);
+        level.transversal = transversal;
+        level.inverseTransversal = inverse;
+        level.checked = new int[degree];
+    }
+
+    private boolean fixesBase(int[] s, int upTo) {
+        for (int l = 0; l < upTo; l++) {
+            int b = levels.get(l).basePoint;
+            if (s[b] != b)
+                return false;
+        }
+        return true;
+    }
+
+    private static int firstMovedPoint(int[] s) {
+        for (int i = 0; i < s.length; i++) {
+            if (s[i] != i)
+                return i;
+        }
+        throw new IllegalStateException("identity moves no point");
+    }
+
+    private int[] identityArray() {
+        int[] id = new int[degree];
+        for (int i = 0; i < degree; i++)
+            id[i] = i;
+        return id;
+    }
+
+    private static boolean isIdentity(int[] s) {
+        for (int i = 0; i < s.length; i++) {
+            if (s[i] != i)
+                return false;
+        }
+        return true;
+    }
+
+    private static int[] compose(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            result[i] = a[b[i]];
+        return result;
+    }
+
+    private static int[] invert(int[] a) {
+        int[] result = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            result[a[i]] = i;
+        return result;
+    }
+
+    private static int[] toArray(Permutation p) {
+        int[] raw = p.raw();
+        int[] result = new int[raw.length];
+        for (int i = 0; i < raw.length; i++)
+            result[i] = raw[i] - 1;
+        return result;
+    }
+
+    private static Permutation toPermutation(int[] a) {
+        int[] mapping = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            mapping[i] = a[i] + 1;
+        return new Permutation(mapping);
+    }
+
+    // ---- Stabilizer chain queries -----------------------------------------
+
+    /** Number of points acted on. */
+    public int degree() {
+        return degree;
+    }
+
+    /** The defining generators. */
+    public List<Permutation> generators() {
+        return generators;
+    }
+
+    /** Exact group order: the product of the basic orbit lengths. */
+    public BigInteger exactOrder() {
+        BigInteger result = BigInteger.ONE;
+        for (Level level : levels)
+            result = result.multiply(BigInteger.valueOf(level.orbit.length));
+        return result;
+    }
+
+    /**
+     * Group order as an int.
+     *
+     * @throws ArithmeticException if the order exceeds {@link Integer#MAX_VALUE};
+     *                             use {@link #exactOrder()} instead
+     */
+    @Override
+    public int order() {
+        return exactOrder().intValueExact();
+    }
+
+    /**
+     * Membership test by sifting through the stabilizer chain.
+     *
+     * @return true if p has this group's degree and lies in the group
+     */
+    public boolean contains(Permutation p) {
+        if (p.size() != degree)
+            return false;
+        int[] residue = toArray(p);
+        for (Level level : levels) {
+            int[] u = level.inverseTransversal[residue[level.basePoint]];
+            if (u == null)
+                return false;
+            residue = compose(u, residue);
+        }
+        return isIdentity(residue);
+    }
+
+    /** Number of levels in the stabilizer chain (length of the base). */
+    public int baseLength() {
+        return levels.size();
+    }
+
+    /**
+     * Canonical representative of the left coset gG (for g of the same degree,
+     * not necessarily in this group): the unique element of gG whose images of
+     * the base points β₀, β₁, ... are lexicographically smallest. Computed
+     * greedily level by level in O(Σ|Δᵢ| + k · n), so two permutations lie in
+     * the same left coset iff their representatives are equal.
+     */
+    public Permutation cosetRepresentative(Permutation g) {
+        if (g.size() != degree)
+            throw new IllegalArgumentException("permutation " + g + " does not have degree " + degree);
+        int[] current = toArray(g);
+        for (Level level : levels) {
+            int best = level.orbit[0];
+            for (int p : level.orbit) {
+                if (current[p] < current[best])
+                    best = p;
+            }
+            current = compose(current, level.transversal[best]);
+        }
+        return toPermutation(current);
+    }
+
+    /** Base points β₀..βₖ₋₁ (1-based). */
+    public int[] base() {
+        return levels.stream().mapToInt(l -> l.basePoint + 1).toArray();
+    }
+
+    /** Basic orbit Δᵢ = βᵢ^G⁽ⁱ⁾ (1-based points, in discovery order). */
+    public int[] basicOrbit(int level) {
+        return Arrays.stream(levels.get(level).orbit).map(p -> p + 1).toArray();
+    }
+
+    /**
+     * Transversal element u ∈ G⁽ⁱ⁾ with u(βᵢ) = point, or null if the point is
+     * not in the basic orbit of that level.
+     */
+    public Permutation transversal(int level, int point) {
+        int[] u = levels.get(level).transversal[point - 1];
+        return u == null ? null : toPermutation(u);
+    }
+
+    /** Strong generators of G⁽ⁱ⁾, the pointwise stabilizer of β₀..βᵢ₋₁. */
+    public List<Permutation> stabilizerGenerators(int level) {
+        if (level == levels.size())
+            return List.of();
+        return levels.get(level).gens.stream().map(PermutationGroup::toPermutation).toList();
+    }
+
+    // ---- Group ----------------------------------------------------------------
+
+    /**
+     * All elements, enumerated once from the stabilizer chain as products of
+     * transversal elements.
+     *
+     * @throws IllegalStateException if the order exceeds
+     *                               {@value d021248.group.util.Constants#MAX_PERMUTATION_GROUP_ENUMERATION}
+     */
+    @Override
+    public synchronized Set<Permutation> elements() {
+        if (elements == null) {
+            if (exactOrder().compareTo(BigInteger.valueOf(Constants.MAX_PERMUTATION_GROUP_ENUMERATION)) > 0)
+                throw new IllegalStateException("group of order " + exactOrder() + " is too large to enumerate");
+            Set<Permutation> result = new HashSet<>();
+            enumerate(0, identityArray(), result);
+            elements = Set.copyOf(result);
+        }
+        return elements;
+    }
+
+    private void enumerate(int level, int[] prefix, Set<Permutation> acc) {
+        if (level == levels.size()) {
+            acc.add(toPermutation(prefix));
+            return;
+        }
+        Level l = levels.get(level);
+        for (int p : l.orbit)
+            enumerate(level + 1, compose(prefix, l.transversal[p]), acc);
+    }
+
+    @Override
+    public Operation<Permutation> operation() {
+        return op;
+    }
+
+    @Override
+    public Permutation identity() {
+        return identity;
+    }
+
+    @Override
+    public Permutation inverse(Permutation element) {
+        return toPermutation(invert(toArray(element)));
+    }
+
+    /** Element order as the lcm of the cycle lengths. */
+    @Override
+    public int order(Permutation element) {
+        int result = 1;
+        for (List<Integer> cycle : element.cycles())
+            result = MathUtil.lcm(result, cycle.size());
+        return result;
+    }
+
+    /** Abelian iff all generators commute pairwise. */
+    @Override
+    public boolean isAbelian() {
+        for (Permutation a : generators) {
+            for (Permutation b : generators) {
+                if (!a.compose(b).equals(b.compose(a)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PermutationGroup(degree=" + degree + ", order=" + exactOrder() + ")";
+    }
+}
@@ -8,6 +8,12 @@
  * <p>
  * Order: |S_n| = n!, |A_n| = n!/2
  * </p>
+ *
+ * <p>
+ * {@link d021248.group.symmetric.PermutationGroup} handles groups given only
+ * by generators, using a Schreier–Sims stabilizer chain for order and
+ * membership without enumerating elements.
+ * </p>
  * 
  * <p>
  * Example:
@@ -24,5 +30,6 @@
  * @see d021248.group.symmetric.AlternatingGroup
  * @see d021248.group.symmetric.Permutation
  * @see d021248.group.symmetric.PermutationFactory
+ * @see d021248.group.symmetric.PermutationGroup
  */
 package d021248.group.symmetric;
@@ -16,6 +16,8 @@ public final class Constants {
     // Algorithm constants
     public static final int MAX_SUBGROUP_ENUMERATION_SIZE = 20;
     public static final int MAX_SYMMETRIC_GROUP_DEGREE = 9;
+    public static final int MAX_CAYLEY_TABLE_ORDER = 2048;
+    public static final int MAX_PERMUTATION_GROUP_ENUMERATION = 1 << 22;
 
     // Null check messages
     public static final String NULL_PARENT = "parent group must not be null";
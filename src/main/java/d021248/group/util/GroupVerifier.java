@@ -1,93 +1,528 @@
 package d021248.group.util;
 
+import java.time.Duration;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 import d021248.group.Group;
 import d021248.group.api.Element;
 
 /**
  * Utility to verify core group axioms for a given concrete {@link Group}.
- * Intended for educational use; performs exhaustive checks over the provided
- * finite element set. For infinite groups, caller must provide a finite
- * representative subset (closure then becomes approximate).
+ * Intended for educational use; performs exhaustive checks of identity,
+ * inverses and closure over the provided finite element set. For infinite
+ * groups, caller must provide a finite representative subset (closure then
+ * becomes approximate).
+ * <p>
+ * Associativity is checked in one of three ways (see
+ * {@link AssociativityCheck}): all |G|³ triples, Light's test over a
+ * generating set, or a random sample of triples. Light's test is exact once
+ * closure holds and is the default.
+ * </p>
+ * <p>
+ * Verification stops as soon as {@link Options#violationLimit()} violations
+ * are found, and violation messages are only built when read, so a broken
+ * table fails after its first few bad products. With {@link Options#pool()}
+ * set, every check is split into ranges of rows of the Cayley table that run
+ * on the given {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * <b>Performance:</b> closure costs |G|² products; the products are tabulated
+ * when |G| ≤ {@value Constants#MAX_CAYLEY_TABLE_ORDER}, so Light's test then
+ * costs O(|G|² · |gens|) table lookups with |gens| ≤ log₂|G| for a group.
+ * </p>
+ *
+ * <pre>{@code
+ * var result = GroupVerifier.verify(GroupFactory.symmetric(6),
+ *         GroupVerifier.Options.defaults().withPool(ForkJoinPool.commonPool()));
+ * System.out.println(result.timings()); // {IDENTITY=PT0.001S, INVERSE=..., ...}
+ * }</pre>
  */
 public final class GroupVerifier {
+    private static final int ROWS_PER_TASK = 8;
+    private static final long SAMPLES_PER_TASK = 4096;
+
     private GroupVerifier() {
     }
 
-    public static <E extends Element> Result verify(Group<E> group) {
-        List<String> violations = new ArrayList<>();
-        Set<E> elems = group.elements();
-        if (elems.isEmpty()) {
-            violations.add("Element set is empty");
-            return new Result(false, violations);
-        }
-        checkIdentity(group, elems, violations);
-        checkClosureAndInverses(group, elems, violations);
-        checkAssociativity(group, elems, violations);
-        return new Result(violations.isEmpty(), violations);
+    /** How associativity is checked. */
+    public enum AssociativityCheck {
+        /** All triples (a, b, c): |G|³ comparisons. */
+        EXHAUSTIVE,
+        /**
+         * Light's test: (x·s)·y = x·(s·y) for all x, y and every s of a
+         * generating set. The elements s passing the test are closed under
+         * products, so passing on generators proves associativity.
+         */
+        LIGHT,
+        /** Uniformly random triples; may miss rare violations. */
+        RANDOMIZED
+    }
+
+    /** The checks, in the order they run. */
+    public enum Axiom {
+        IDENTITY, INVERSE, CLOSURE, ASSOCIATIVITY
     }
 
-    private static <E extends Element> void checkIdentity(Group<E> group, Set<E> elems, List<String> violations) {
-        E id = group.identity();
-        if (id == null) {
-            violations.add("Identity is null");
-            return;
+    /**
+     * Verification settings.
+     *
+     * @param associativity  how associativity is checked
+     * @param violationLimit stop after this many violations (≥ 1)
+     * @param pool           pool to run the checks on, or null to run them in
+     *                       the calling thread
+     * @param confidence     detection probability of randomized checking
+     * @param failureRate    smallest fraction of failing triples randomized
+     *                       checking must detect, or 0 for 1/|G|
+     */
+    public record Options(AssociativityCheck associativity, int violationLimit, ForkJoinPool pool,
+            double confidence, double failureRate) {
+
+        public static final int DEFAULT_VIOLATION_LIMIT = 100;
+
+        public Options {
+            Objects.requireNonNull(associativity, "Mode cannot be null");
+            if (violationLimit < 1) {
+                throw new IllegalArgumentException("Violation limit must be positive, got " + violationLimit);
+            }
+            if (!(confidence > 0 && confidence < 1)) {
+                throw new IllegalArgumentException("Confidence must be between 0 and 1, got " + confidence);
+            }
+            if (!(failureRate >= 0 && failureRate <= 1)) {
+                throw new IllegalArgumentException("Failure rate must be in [0, 1], got " + failureRate);
+            }
+        }
+
+        /**
+         * Light's test, {@value #DEFAULT_VIOLATION_LIMIT} violations, in the
+         * calling thread.
+         */
+        public static Options defaults() {
+            return new Options(AssociativityCheck.LIGHT, DEFAULT_VIOLATION_LIMIT, null, 0.99, 0);
+        }
+
+        public Options withAssociativity(AssociativityCheck mode) {
+            return new Options(mode, violationLimit, pool, confidence, failureRate);
         }
-        for (E a : elems) {
-            if (!group.operate(id, a).equals(a)) {
-                violations.add("Left identity fails for element: " + a);
+
+        public Options withViolationLimit(int limit) {
+            return new Options(associativity, limit, pool, confidence, failureRate);
+        }
+
+        public Options withPool(ForkJoinPool forkJoinPool) {
+            return new Options(associativity, violationLimit, forkJoinPool, confidence, failureRate);
+        }
+
+        /** Randomized associativity checking with the given parameters. */
+        public Options withSampling(double detection, double rate) {
+            if (rate == 0) {
+                throw new IllegalArgumentException("Failure rate must be in (0, 1], got " + rate);
             }
-            if (!group.operate(a, id).equals(a)) {
-                violations.add("Right identity fails for element: " + a);
+            return new Options(AssociativityCheck.RANDOMIZED, violationLimit, pool, detection, rate);
+        }
+    }
+
+    /** Verify all axioms with the {@linkplain Options#defaults() default options}. */
+    public static <E extends Element> Result verify(Group<E> group) {
+        return verify(group, Options.defaults());
+    }
+
+    /**
+     * Verify all axioms, checking associativity in the given mode. Randomized
+     * checking uses confidence 0.99 and failure rate 1/|G|, see
+     * {@link #verifyRandomized(Group, double, double)}.
+     */
+    public static <E extends Element> Result verify(Group<E> group, AssociativityCheck mode) {
+        return verify(group, Options.defaults().withAssociativity(mode));
+    }
+
+    /**
+     * Verify all axioms, checking associativity on random triples. The number
+     * of samples is ⌈ln(1 − confidence) / ln(1 − failureRate)⌉, so if at least
+     * a fraction {@code failureRate} of all triples is non-associative, a
+     * violation is found with probability at least {@code confidence}. The
+     * sample is drawn from a generator seeded with |G|, so runs are
+     * reproducible.
+     *
+     * @param confidence  detection probability, 0 &lt; confidence &lt; 1
+     * @param failureRate smallest fraction of failing triples to detect,
+     *                    0 &lt; failureRate ≤ 1
+     */
+    public static <E extends Element> Result verifyRandomized(Group<E> group, double confidence, double failureRate) {
+        return verify(group, Options.defaults().withSampling(confidence, failureRate));
+    }
+
+    /** Verify all axioms with the given options. */
+    public static <E extends Element> Result verify(Group<E> group, Options options) {
+        Objects.requireNonNull(group, Constants.NULL_GROUP);
+        Objects.requireNonNull(options, "Options cannot be null");
+        return new Verification<>(group, options).run();
+    }
+
+    private static long sampleCount(double confidence, double failureRate) {
+        if (failureRate == 1) {
+            return 1;
+        }
+        return Math.max(1, (long) Math.ceil(Math.log1p(-confidence) / Math.log1p(-failureRate)));
+    }
+
+    /** Violations found so far, up to the limit, with messages built on demand. */
+    private static final class Report {
+        private final int limit;
+        private final AtomicInteger count = new AtomicInteger();
+        private final List<Supplier<String>> messages = Collections.synchronizedList(new ArrayList<>());
+
+        Report(int limit) {
+            this.limit = limit;
+        }
+
+        void add(Supplier<String> message) {
+            if (count.incrementAndGet() <= limit) {
+                messages.add(message);
             }
         }
+
+        boolean full() {
+            return count.get() >= limit;
+        }
+
+        List<String> violations() {
+            List<Supplier<String>> found = List.copyOf(messages);
+            return new AbstractList<>() {
+                @Override
+                public String get(int i) {
+                    return found.get(i).get();
+                }
+
+                @Override
+                public int size() {
+                    return found.size();
+                }
+            };
+        }
     }
 
-    private static <E extends Element> void checkClosureAndInverses(Group<E> group, Set<E> elems,
-            List<String> violations) {
-        for (E a : elems) {
-            E inv = group.inverse(a);
-            if (inv == null) {
-                violations.add("Inverse is null for element: " + a);
-            } else if (!elems.contains(inv)) {
-                violations.add("Inverse not in set for element: " + a);
-            }
-            for (E b : elems) {
-                E prod = group.operate(a, b);
-                if (prod == null) {
-                    violations.add("Operation returned null for pair: " + a + ", " + b);
-                } else if (!elems.contains(prod)) {
-                    violations.add("Closure violated for pair: " + a + ", " + b + " -> " + prod);
+    /** One run of the checks over a fixed element order. */
+    private static final class Verification<E extends Element> {
+        private final Group<E> group;
+        private final Options options;
+        private final Report report;
+        private final List<E> elems;
+        private final Map<E, Integer> index;
+        private final Map<Axiom, Duration> timings = new EnumMap<>(Axiom.class);
+        // rows stay null when |G| is too large to tabulate
+        private final int[][] table;
+
+        Verification(Group<E> group, Options options) {
+            this.group = group;
+            this.options = options;
+            this.report = new Report(options.violationLimit());
+            this.elems = new ArrayList<>(group.elements());
+            int n = elems.size();
+            this.index = new HashMap<>(2 * n);
+            for (int i = 0; i < n; i++) {
+                index.put(elems.get(i), i);
+            }
+            this.table = new int[n][];
+        }
+
+        Result run() {
+            AssociativityCheck mode = options.associativity();
+            if (elems.isEmpty()) {
+                report.add(() -> "Element set is empty");
+                return result(mode, 0);
+            }
+            time(Axiom.IDENTITY, this::checkIdentity);
+            time(Axiom.INVERSE, this::checkInverses);
+            AtomicBoolean closed = new AtomicBoolean(true);
+            time(Axiom.CLOSURE, () -> checkClosure(closed));
+            if (report.full()) {
+                return result(mode, 0);
+            }
+            long[] checked = new long[1];
+            if (mode == AssociativityCheck.LIGHT && !closed.get()) {
+                // Light's test needs closure; fall back to all triples
+                mode = AssociativityCheck.EXHAUSTIVE;
+            }
+            AssociativityCheck chosen = mode;
+            time(Axiom.ASSOCIATIVITY, () -> checked[0] = switch (chosen) {
+                case EXHAUSTIVE -> checkAllTriples();
+                case LIGHT -> checkLight();
+                case RANDOMIZED -> checkRandomTriples();
+            });
+            return result(mode, checked[0]);
+        }
+
+        private Result result(AssociativityCheck mode, long samples) {
+            List<String> violations = report.violations();
+            return new Result(violations.isEmpty(), violations, mode, samples, Collections.unmodifiableMap(timings));
+        }
+
+        private void time(Axiom axiom, Runnable check) {
+            if (report.full()) {
+                return;
+            }
+            long start = System.nanoTime();
+            check.run();
+            timings.put(axiom, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        /** Run body(i) for i in 0..rows-1, in parallel if a pool is set, until the report is full. */
+        private void forEachRow(int rows, IntConsumer body) {
+            if (options.pool() == null) {
+                for (int i = 0; i < rows && !report.full(); i++) {
+                    body.accept(i);
                 }
+            } else {
+                options.pool().invoke(new Rows(0, rows, body, report));
             }
         }
-    }
 
-    private static <E extends Element> void checkAssociativity(Group<E> group, Set<E> elems, List<String> violations) {
-        for (E a : elems) {
-            for (E b : elems) {
-                for (E c : elems) {
-                    E left = group.operate(group.operate(a, b), c);
-                    E right = group.operate(a, group.operate(b, c));
-                    if (!left.equals(right)) {
-                        violations.add("Associativity fails for triple: " + a + ", " + b + ", " + c);
+        private void checkIdentity() {
+            E id = group.identity();
+            if (id == null) {
+                report.add(() -> "Identity is null");
+                return;
+            }
+            forEachRow(elems.size(), i -> {
+                E a = elems.get(i);
+                if (!group.operate(id, a).equals(a)) {
+                    report.add(() -> "Left identity fails for element: " + a);
+                }
+                if (!group.operate(a, id).equals(a)) {
+                    report.add(() -> "Right identity fails for element: " + a);
+                }
+            });
+        }
+
+        private void checkInverses() {
+            forEachRow(elems.size(), i -> {
+                E a = elems.get(i);
+                E inv = group.inverse(a);
+                if (inv == null) {
+                    report.add(() -> "Inverse is null for element: " + a);
+                } else if (!index.containsKey(inv)) {
+                    report.add(() -> "Inverse not in set for element: " + a);
+                }
+            });
+        }
+
+        /** Check closure row by row, tabulating the rows if |G| is small enough. */
+        private void checkClosure(AtomicBoolean closed) {
+            int n = elems.size();
+            boolean tabulate = n <= Constants.MAX_CAYLEY_TABLE_ORDER;
+            forEachRow(n, i -> {
+                E a = elems.get(i);
+                int[] row = tabulate ? new int[n] : null;
+                for (int j = 0; j < n && !report.full(); j++) {
+                    E b = elems.get(j);
+                    E prod = group.operate(a, b);
+                    Integer id = prod == null ? null : index.get(prod);
+                    if (prod == null) {
+                        report.add(() -> "Operation returned null for pair: " + a + ", " + b);
+                    } else if (id == null) {
+                        report.add(() -> "Closure violated for pair: " + a + ", " + b + " -> " + prod);
+                    }
+                    if (id == null) {
+                        closed.set(false);
+                    } else if (row != null) {
+                        row[j] = id;
+                    }
+                }
+                table[i] = row;
+            });
+        }
+
+        private long checkAllTriples() {
+            int n = elems.size();
+            forEachRow(n, i -> {
+                E a = elems.get(i);
+                for (int j = 0; j < n && !report.full(); j++) {
+                    E b = elems.get(j);
+                    E ab = group.operate(a, b);
+                    for (E c : elems) {
+                        E left = group.operate(ab, c);
+                        E right = group.operate(a, group.operate(b, c));
+                        if (!left.equals(right)) {
+                            report.add(() -> "Associativity fails for triple: " + a + ", " + b + ", " + c);
+                        }
+                    }
+                }
+            });
+            long n3 = n;
+            return n3 * n3 * n3;
+        }
+
+        /**
+         * Light's test over a generating set chosen greedily: an element not
+         * yet reached by right multiplication from the generators so far
+         * becomes the next generator. Requires a closed operation.
+         */
+        private long checkLight() {
+            int n = elems.size();
+            long checked = 0;
+            for (int s : generators()) {
+                if (report.full()) {
+                    break;
+                }
+                E gs = elems.get(s);
+                // x·s and s·y once per generator
+                int[] right = new int[n];
+                int[] left = new int[n];
+                for (int x = 0; x < n; x++) {
+                    right[x] = product(x, s);
+                    left[x] = product(s, x);
+                }
+                forEachRow(n, x -> {
+                    for (int y = 0; y < n; y++) {
+                        boolean associative = table[0] != null
+                                ? table[right[x]][y] == table[x][left[y]]
+                                : group.operate(elems.get(right[x]), elems.get(y))
+                                        .equals(group.operate(elems.get(x), elems.get(left[y])));
+                        if (!associative) {
+                            E a = elems.get(x);
+                            E c = elems.get(y);
+                            report.add(() -> "Associativity fails for triple: " + a + ", " + gs + ", " + c);
+                        }
+                    }
+                });
+                checked += (long) n * n;
+            }
+            return checked;
+        }
+
+        private List<Integer> generators() {
+            int n = elems.size();
+            List<Integer> gens = new ArrayList<>();
+            BitSet reached = new BitSet(n);
+            int[] queue = new int[n];
+            for (int next = 0; next < n; next = reached.nextClearBit(next)) {
+                gens.add(next);
+                // left-normed products of the generators, which all pass once the generators do
+                int tail = 0;
+                reached.clear();
+                for (int s : gens) {
+                    if (!reached.get(s)) {
+                        reached.set(s);
+                        queue[tail++] = s;
+                    }
+                }
+                for (int head = 0; head < tail; head++) {
+                    for (int s : gens) {
+                        int y = product(queue[head], s);
+                        if (!reached.get(y)) {
+                            reached.set(y);
+                            queue[tail++] = y;
+                        }
                     }
                 }
             }
+            return gens;
+        }
+
+        private int product(int a, int b) {
+            if (table[a] != null) {
+                return table[a][b];
+            }
+            return index.get(group.operate(elems.get(a), elems.get(b)));
+        }
+
+        /** Random triples in chunks, each drawn from its own split of a generator seeded with |G|. */
+        private long checkRandomTriples() {
+            int n = elems.size();
+            double rate = options.failureRate() > 0 ? options.failureRate() : 1.0 / n;
+            long samples = sampleCount(options.confidence(), rate);
+            int chunks = (int) ((samples + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK);
+            SplittableRandom root = new SplittableRandom(n);
+            SplittableRandom[] randoms = new SplittableRandom[chunks];
+            for (int c = 0; c < chunks; c++) {
+                randoms[c] = root.split();
+            }
+            forEachRow(chunks, chunk -> {
+                SplittableRandom random = randoms[chunk];
+                long size = Math.min(SAMPLES_PER_TASK, samples - chunk * SAMPLES_PER_TASK);
+                for (long i = 0; i < size && !report.full(); i++) {
+                    E a = elems.get(random.nextInt(n));
+                    E b = elems.get(random.nextInt(n));
+                    E c = elems.get(random.nextInt(n));
+                    E ab = group.operate(a, b);
+                    E bc = group.operate(b, c);
+                    if (ab == null || bc == null || !Objects.equals(group.operate(ab, c), group.operate(a, bc))) {
+                        report.add(() -> "Associativity fails for triple: " + a + ", " + b + ", " + c);
+                    }
+                }
+            });
+            return samples;
+        }
+    }
+
+    /** Rows lo..hi-1 of a check, split in halves down to {@value #ROWS_PER_TASK} rows. */
+    private static final class Rows extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int lo;
+        private final int hi;
+        private final transient IntConsumer body;
+        private final transient Report report;
+
+        Rows(int lo, int hi, IntConsumer body, Report report) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+            this.report = report;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= ROWS_PER_TASK) {
+                for (int i = lo; i < hi && !report.full(); i++) {
+                    body.accept(i);
+                }
+            } else if (!report.full()) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Rows(lo, mid, body, report), new Rows(mid, hi, body, report));
+            }
         }
     }
 
-    public record Result(boolean ok, List<String> violations) {
+    /**
+     * Outcome of a verification.
+     *
+     * @param ok            true if no violation was found
+     * @param violations    the violations found, at most the violation limit;
+     *                      messages are built when read
+     * @param associativity how associativity was checked
+     * @param samples       number of associativity comparisons made
+     * @param timings       time spent per axiom, for the checks that ran
+     */
+    public record Result(boolean ok, List<String> violations, AssociativityCheck associativity, long samples,
+            Map<Axiom, Duration> timings) {
+        public Result(boolean ok, List<String> violations) {
+            this(ok, violations, AssociativityCheck.EXHAUSTIVE, 0, Map.of());
+        }
+
         public String summary() {
+            String check = "Associativity: " + associativity + " (" + samples + " checks)";
             if (ok)
-                return "All axioms satisfied.";
+                return "All axioms satisfied. " + check + ".";
             StringBuilder sb = new StringBuilder("Violations (" + violations.size() + "):\n");
             for (String v : violations)
                 sb.append(" - ").append(v).append('\n');
-            return sb.toString();
+            return sb.append(check).append('\n').toString();
         }
     }
 }
@@ -4,8 +4,9 @@
  * This package provides:
  * </p>
  * <ul>
- * <li>{@link d021248.group.util.GroupVerifier} - Exhaustive verification of
- * group axioms</li>
+ * <li>{@link d021248.group.util.GroupVerifier} - Verification of the group
+ * axioms, with exhaustive, Light's-test or randomized associativity
+ * checking, optionally in parallel and stopping after a violation limit</li>
  * </ul>
  * 
  * <p>
@@ -3,7 +3,15 @@ package d021248.group;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
 import d021248.group.api.Element;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
 
 /** Reusable assertion helpers for group tests. */
 public final class GroupAssertions {
@@ -27,4 +35,30 @@ public final class GroupAssertions {
             assertEquals(id, group.operate(inv, e), "e^{-1} * e != id for " + e);
         }
     }
-}
\ No newline at end of file
+
+    /** Element order → number of elements of that order, an isomorphism invariant. */
+    public static <E extends Element> Map<Integer, Integer> orderStatistics(Group<E> group) {
+        Map<Integer, Integer> result = new TreeMap<>();
+        for (E g : group.elements()) {
+            result.merge(group.order(g), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    /** The subgroup of Sₙ fixing the given 1-based point. */
+    public static Subgroup<Permutation> pointStabilizer(SymmetricGroup sn, int point) {
+        Set<Permutation> fixing = sn.elements().stream()
+                .filter(p -> p.mapping()[point - 1] == point)
+                .collect(Collectors.toSet());
+        return new Subgroup<>(sn, fixing);
+    }
+
+    /** The n-cycle i ↦ i + 1 (mod n) on 1..n. */
+    public static Permutation shift(int n) {
+        int[] mapping = new int[n];
+        for (int i = 0; i < n; i++) {
+            mapping[i] = (i + 1) % n + 1;
+        }
+        return new Permutation(mapping);
+    }
+}
@@ -0,0 +1,80 @@
+package d021248.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class IndexedGroupTest {
+
+    @Test
+    void testMultiplyMatchesOperation() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        IndexedGroup<Permutation> indexed = IndexedGroup.of(s4);
+
+        assertFalse(indexed.hasTable());
+        int[][] onDemand = new int[indexed.order()][indexed.order()];
+        for (int a = 0; a < indexed.order(); a++) {
+            for (int b = 0; b < indexed.order(); b++) {
+                Permutation expected = s4.operate(indexed.elementAt(a), indexed.elementAt(b));
+                onDemand[a][b] = indexed.multiply(a, b);
+                assertEquals(expected, indexed.elementAt(onDemand[a][b]));
+            }
+            assertEquals(indexed.identityIndex(), indexed.multiply(a, indexed.inverse(a)));
+        }
+
+        assertSame(indexed, indexed.tabulate());
+        assertTrue(indexed.hasTable());
+        for (int a = 0; a < indexed.order(); a++) {
+            for (int b = 0; b < indexed.order(); b++) {
+                assertEquals(onDemand[a][b], indexed.multiply(a, b));
+            }
+        }
+    }
+
+    @Test
+    void testOfReusesIndexedGroup() {
+        IndexedGroup<CyclicElement> z6 = IndexedGroup.of(new CyclicGroup(6));
+        assertSame(z6, IndexedGroup.of(z6));
+    }
+
+    @Test
+    void testElementOrders() {
+        CyclicGroup z12 = new CyclicGroup(12);
+        IndexedGroup<CyclicElement> indexed = IndexedGroup.of(z12);
+        for (CyclicElement g : z12.elements()) {
+            assertEquals(z12.order(g), indexed.order(g));
+        }
+        SymmetricGroup s5 = new SymmetricGroup(5);
+        IndexedGroup<Permutation> indexedS5 = IndexedGroup.of(s5);
+        for (Permutation g : s5.elements()) {
+            assertEquals(s5.order(g), indexedS5.order(g));
+        }
+    }
+
+    @Test
+    void testGeneratorsGenerate() {
+        IndexedGroup<Permutation> s5 = IndexedGroup.of(new SymmetricGroup(5));
+        int[] gens = s5.generators();
+        assertTrue(gens.length <= 2);
+        assertEquals(120, s5.closure(gens).cardinality());
+
+        IndexedGroup<CyclicElement> z12 = IndexedGroup.of(new CyclicGroup(12));
+        assertEquals(1, z12.generators().length);
+    }
+
+    @Test
+    void testIndexOfUnknownElementThrows() {
+        IndexedGroup<CyclicElement> z6 = IndexedGroup.of(new CyclicGroup(6));
+        assertFalse(z6.contains(new CyclicElement(1, 7)));
+        assertThrows(IllegalArgumentException.class, () -> z6.indexOf(new CyclicElement(1, 7)));
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +13,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import d021248.group.GroupFactory;
+import d021248.group.conjugacy.ConjugacyClass;
 import d021248.group.cyclic.CyclicElement;
 import d021248.group.cyclic.CyclicGroup;
 import d021248.group.dihedral.DihedralElement;
@@ -223,4 +226,91 @@ class ActionTest {
         assertTrue(orb.contains(new CyclicElement(2, 4)));
         assertTrue(orb.contains(new CyclicElement(3, 4)));
     }
+
+    @Test
+    void testFixedPointCountsByClass() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+
+        Action<Permutation, Permutation> conjugation = new Action<>(
+                s4,
+                s4.elements(),
+                (g, h) -> s4.operate(s4.operate(g, h), s4.inverse(g)));
+
+        // |Fix(g)| under conjugation is the centralizer order |G| / |cl(g)|
+        Map<ConjugacyClass<Permutation>, Integer> byClass = ActionAnalyzer.fixedPointCountsByClass(conjugation);
+        assertEquals(5, byClass.size());
+        byClass.forEach((cl, count) -> assertEquals(24 / cl.size(), count));
+
+        Map<Permutation, Integer> counts = ActionAnalyzer.fixedPointCounts(conjugation);
+        assertEquals(24, counts.size());
+        byClass.forEach((cl, count) -> cl.elements().forEach(g -> assertEquals(count, counts.get(g))));
+
+        assertEquals(5, ActionAnalyzer.burnsideLemma(conjugation));
+
+        assertEquals(byClass, ActionAnalyzer.fixedPointCountsByClass(conjugation, true));
+        assertEquals(counts, ActionAnalyzer.fixedPointCounts(conjugation, true));
+        assertEquals(5, ActionAnalyzer.burnsideLemma(conjugation, true));
+    }
+
+    @Test
+    void testFixedPointCountsStayInCallingThreadByDefault() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        Set<Thread> threads = new HashSet<>();
+        Action<Permutation, Permutation> conjugation = new Action<>(
+                s4,
+                s4.elements(),
+                (g, h) -> {
+                    threads.add(Thread.currentThread()); // not thread-safe on purpose
+                    return s4.operate(s4.operate(g, h), s4.inverse(g));
+                });
+
+        ActionAnalyzer.fixedPointCounts(conjugation);
+        ActionAnalyzer.fixedPointCountsByClass(conjugation);
+        assertEquals(5, ActionAnalyzer.burnsideLemma(conjugation));
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testBurnsideOnColorings() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        Set<List<Integer>> colorings = new HashSet<>();
+        for (int mask = 0; mask < 64; mask++) {
+            List<Integer> coloring = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                coloring.add((mask >> i) & 1);
+            }
+            colorings.add(coloring);
+        }
+        // rotate a 2-colored necklace of 6 beads
+        Action<CyclicElement, List<Integer>> rotation = new Action<>(z6, colorings, (g, c) -> {
+            List<Integer> rotated = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                rotated.add(c.get(Math.floorMod(i - g.value(), 6)));
+            }
+            return rotated;
+        });
+        assertEquals(14, ActionAnalyzer.burnsideLemma(rotation));
+        assertEquals(14, ActionAnalyzer.orbits(rotation).size());
+    }
+
+    @Test
+    void testFreenessAndTransitivityShortCircuit() {
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+        // points 0..3 form a regular orbit, 4..7 two orbits on which 2 acts trivially
+        Set<Integer> points = Set.of(0, 1, 2, 3, 4, 5, 6, 7);
+        Action<CyclicElement, Integer> action = new Action<>(z4, points,
+                (g, x) -> x < 4 ? (x + g.value()) % 4 : 4 + (x - 4 + 2 * (g.value() % 2)) % 4);
+
+        assertTrue(ActionAnalyzer.isAction(action));
+        assertFalse(ActionAnalyzer.isFree(action));
+        assertFalse(ActionAnalyzer.isTransitive(action));
+        assertEquals(3, ActionAnalyzer.orbits(action).size());
+
+        CyclicElement two = new CyclicElement(2, 4);
+        assertEquals(4, ActionAnalyzer.fixedPointCount(action, two));
+        assertEquals(Set.of(4, 5, 6, 7), ActionAnalyzer.fixedPoints(action, two));
+        assertTrue(ActionAnalyzer.hasFixedPoint(action, two));
+        assertFalse(ActionAnalyzer.hasFixedPoint(action, new CyclicElement(1, 4)));
+        assertTrue(ActionAnalyzer.fixedPointStream(action, two).allMatch(x -> x >= 4));
+    }
 }
@@ -0,0 +1,82 @@
+package d021248.group.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+
+class BlockSystemTest {
+
+    private static int[] cycle(int n) {
+        int[] s = new int[n];
+        for (int i = 0; i < n; i++) {
+            s[i] = (i + 1) % n;
+        }
+        return s;
+    }
+
+    @Test
+    void testSquareHasDiagonalBlocks() {
+        PermutationGroup d4 = PermutationGroup.of(
+                new Permutation(new int[] { 2, 3, 4, 1 }), new Permutation(new int[] { 1, 4, 3, 2 }));
+        assertFalse(BlockSystem.isPrimitive(d4));
+
+        BlockSystem diagonals = BlockSystem.minimal(d4, 1, 3);
+        assertEquals(2, diagonals.blockCount());
+        assertEquals(2, diagonals.blockSize());
+        assertEquals(diagonals.blockOf(0), diagonals.blockOf(2));
+        // adjacent corners generate the whole square
+        assertTrue(BlockSystem.minimal(d4, 1, 2).isTrivial());
+        assertEquals(List.of(diagonals), BlockSystem.all(d4));
+    }
+
+    @Test
+    void testCyclicBlockSystemsMatchDivisors() {
+        // Z12 regular on 12 points: one block system per proper divisor d > 1 of 12 as block size
+        List<BlockSystem> systems = BlockSystem.all(new int[][] { cycle(12) });
+        assertEquals(List.of(2, 3, 4, 6), systems.stream().map(BlockSystem::blockSize).toList());
+        BitSet block = systems.get(1).blocks().get(0);
+        assertEquals(BitSet.valueOf(new long[] { 1 | 1 << 4 | 1 << 8 }), block);
+        assertTrue(BlockSystem.isPrimitive(new int[][] { cycle(13) }));
+    }
+
+    @Test
+    void testSymmetricGroupIsPrimitiveOnLargeDegree() {
+        int n = 100_000;
+        int[] swap = new int[n];
+        for (int i = 0; i < n; i++) {
+            swap[i] = i;
+        }
+        swap[0] = 1;
+        swap[1] = 0;
+        assertTrue(BlockSystem.isPrimitive(new int[][] { cycle(n), swap }));
+        assertFalse(BlockSystem.isPrimitive(new int[][] { cycle(n) }));
+    }
+
+    @Test
+    void testCompiledActionAndErrors() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        CompiledAction<CyclicElement, CyclicElement> regular = CompiledAction.of(
+                new Action<>(z6, z6.elements(), z6::operate));
+        assertFalse(ActionAnalyzer.isPrimitive(regular));
+        assertEquals(2, ActionAnalyzer.blockSystems(regular).size());
+        BlockSystem halves = ActionAnalyzer.minimalBlockSystem(regular, z6.identity(), new CyclicElement(3, 6));
+        assertEquals(3, halves.blockCount());
+
+        CompiledAction<CyclicElement, Integer> twoOrbits = CompiledAction.of(
+                new Action<>(z6, Set.of(0, 1, 2, 3), (g, x) -> x < 2 ? (x + g.value()) % 2 : 2 + (x + g.value()) % 2));
+        assertThrows(IllegalArgumentException.class, () -> ActionAnalyzer.isPrimitive(twoOrbits));
+    }
+}
@@ -0,0 +1,90 @@
+package d021248.group.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class CompiledActionTest {
+
+    private static Action<Permutation, Permutation> conjugation(SymmetricGroup s) {
+        return new Action<>(s, s.elements(), (g, h) -> s.operate(s.operate(g, h), s.inverse(g)));
+    }
+
+    @Test
+    void testNaturalActionOfS4() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        CompiledAction<Permutation, Integer> natural = ActionAnalyzer.compile(
+                new Action<>(s4, Set.of(1, 2, 3, 4), (p, i) -> p.mapping()[i - 1]));
+
+        assertEquals(4, natural.degree());
+        assertTrue(natural.isTransitive());
+        assertFalse(natural.isFree());
+        assertEquals(24, natural.permutationGroup().order());
+        assertEquals(6, ActionAnalyzer.stabilizer(natural, 3).order());
+        assertTrue(ActionAnalyzer.verifyOrbitStabilizer(natural, 2));
+        assertEquals(Set.of(3, 4), ActionAnalyzer.fixedPoints(natural, Permutation.transposition(1, 2, 4)));
+        assertEquals(1, ActionAnalyzer.burnsideLemma(natural));
+    }
+
+    @Test
+    void testConjugationMatchesUncompiledAnalysis() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        Action<Permutation, Permutation> action = conjugation(s4);
+        CompiledAction<Permutation, Permutation> compiled = CompiledAction.of(action);
+
+        List<Orbit<Permutation>> orbits = ActionAnalyzer.orbits(compiled);
+        assertEquals(5, orbits.size());
+        assertEquals(5, ActionAnalyzer.burnsideLemma(compiled));
+        assertEquals(ActionAnalyzer.fixedPointCounts(action), ActionAnalyzer.fixedPointCounts(compiled));
+        for (Permutation x : s4.elements()) {
+            assertEquals(ActionAnalyzer.orbit(action, x).elements(), ActionAnalyzer.orbit(compiled, x).elements());
+            assertEquals(ActionAnalyzer.stabilizer(action, x).elements(),
+                    ActionAnalyzer.stabilizer(compiled, x).elements());
+        }
+    }
+
+    @Test
+    void testRegularActionIsFree() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        CompiledAction<CyclicElement, CyclicElement> left = CompiledAction.of(
+                new Action<>(z6, z6.elements(), z6::operate));
+        assertTrue(left.isFree());
+        assertTrue(left.isTransitive());
+        Map<CyclicElement, Integer> counts = ActionAnalyzer.fixedPointCounts(left);
+        assertEquals(6, counts.get(z6.identity()));
+        assertEquals(5, counts.values().stream().filter(c -> c == 0).count());
+    }
+
+    @Test
+    void testNonActionsAreRejected() {
+        CyclicGroup z3 = GroupFactory.cyclic(3);
+        // every non-identity element swaps 0 and 1, so the generator does not satisfy g³ = e
+        Action<CyclicElement, Integer> swap = new Action<>(z3, Set.of(0, 1),
+                (g, x) -> g.value() == 0 ? x : 1 - x);
+        assertFalse(ActionAnalyzer.isAction(swap));
+        assertThrows(IllegalArgumentException.class, () -> CompiledAction.of(swap));
+
+        // not a permutation of the set
+        Action<CyclicElement, Integer> collapse = new Action<>(z3, Set.of(0, 1, 2),
+                (g, x) -> g.value() == 0 ? x : 0);
+        assertFalse(ActionAnalyzer.isAction(collapse));
+
+        // identity acts nontrivially
+        Action<CyclicElement, Integer> shifted = new Action<>(z3, Set.of(0, 1, 2),
+                (g, x) -> (x + g.value() + 1) % 3);
+        assertFalse(ActionAnalyzer.isAction(shifted));
+    }
+}
@@ -0,0 +1,65 @@
+package d021248.group.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+
+class CycleIndexTest {
+
+    private static PermutationGroup cubeRotationsOnFaces() {
+        // faces 1..6 with opposite pairs {1,6}, {2,5}, {3,4}
+        return PermutationGroup.of(
+                new Permutation(new int[] { 1, 3, 5, 2, 4, 6 }),
+                new Permutation(new int[] { 3, 2, 6, 1, 5, 4 }));
+    }
+
+    @Test
+    void testCubeFaceColorings() {
+        PermutationGroup cube = cubeRotationsOnFaces();
+        assertEquals(24, cube.order());
+        CycleIndex z = CycleIndex.of(cube);
+
+        assertEquals(5, z.terms().size());
+        assertEquals(BigInteger.valueOf(24), z.groupOrder());
+        assertEquals("(1/24)(a1^6 + 3a1^2a2^2 + 6a1^2a4 + 6a2^3 + 8a3^2)", z.toString());
+        assertEquals(BigInteger.valueOf(10), z.countColorings(2));
+        assertEquals(BigInteger.valueOf(43450), z.countColorings(10));
+        // two ways to paint three faces red: around a corner or in a band
+        assertEquals(BigInteger.TWO, z.countColoringsWithContent(3, 3));
+        assertEquals(BigInteger.valueOf(30), z.countColoringsWithContent(1, 1, 1, 1, 1, 1));
+    }
+
+    @Test
+    void testNecklacesFromCompiledAction() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        Action<CyclicElement, Integer> rotation = new Action<>(z6, Set.of(0, 1, 2, 3, 4, 5),
+                (g, i) -> (i + g.value()) % 6);
+        CycleIndex z = CycleIndex.of(rotation);
+
+        assertEquals(6, z.degree());
+        assertEquals(BigInteger.valueOf(14), z.countColorings(2));
+        assertEquals(BigInteger.valueOf(130), z.countColorings(3));
+        assertEquals(BigInteger.valueOf(3), z.countColoringsWithContent(2, 4));
+        assertEquals(BigInteger.ONE, z.terms().get(List.of(6, 0, 0, 0, 0, 0)));
+    }
+
+    @Test
+    void testLargeCountsAreExact() {
+        CycleIndex z = CycleIndex.of(GroupFactory.symmetric(5));
+        // multisets of size 5 from 1000 colors: C(1004, 5)
+        assertEquals(new BigInteger("8416958750200"), z.countColorings(1000));
+        assertEquals(BigInteger.ONE, z.countColoringsWithContent(1, 1, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> z.countColoringsWithContent(2, 2));
+    }
+}
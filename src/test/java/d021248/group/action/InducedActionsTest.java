@@ -0,0 +1,91 @@
+package d021248.group.action;
+
+import static d021248.group.GroupAssertions.shift;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+import d021248.group.symmetric.SymmetricGroup;
+
+class InducedActionsTest {
+
+    @Test
+    void testRankingRoundTrips() {
+        for (int rank = 0; rank < 4845; rank++) {
+            assertEquals(rank, InducedActions.subsetRank(InducedActions.subsetFromRank(rank, 4)));
+        }
+        assertArrayEquals(new int[] { 1, 2, 3 }, InducedActions.subsetFromRank(0, 3));
+        assertEquals(InducedActions.subsetRank(3, 1, 2), InducedActions.subsetRank(1, 2, 3));
+        for (int rank = 0; rank < 5 * 4 * 3; rank++) {
+            assertEquals(rank, InducedActions.distinctTupleRank(5, InducedActions.distinctTupleFromRank(rank, 5, 3)));
+        }
+        assertArrayEquals(new int[] { 2, 5, 1 }, InducedActions.tupleFromRank(InducedActions.tupleRank(5, 2, 5, 1), 5, 3));
+    }
+
+    @Test
+    void testSubsetsOfSymmetricGroup() {
+        SymmetricGroup s5 = GroupFactory.symmetric(5);
+        Action<Permutation, Integer> pairs = InducedActions.onSubsets(s5, 2);
+        assertEquals(10, pairs.set().size());
+        assertTrue(ActionAnalyzer.isAction(pairs));
+        assertEquals(1, ActionAnalyzer.orbits(pairs).size());
+        // Stab({1,2}) = S2 × S3
+        assertEquals(12, ActionAnalyzer.stabilizer(pairs, InducedActions.subsetRank(1, 2)).order());
+
+        Action<Permutation, Integer> tuples = InducedActions.onDistinctTuples(s5, 2);
+        assertEquals(20, tuples.set().size());
+        assertTrue(ActionAnalyzer.isTransitive(tuples));
+
+        // all pairs: the diagonal and the distinct pairs
+        assertEquals(2, ActionAnalyzer.burnsideLemma(InducedActions.onTuples(s5, 2)));
+    }
+
+    @Test
+    void testFourSubsetsOfTwentyPoints() {
+        Permutation rotation = shift(20);
+        PermutationGroup c20 = PermutationGroup.of(rotation);
+        Action<Permutation, Integer> subsets = InducedActions.onSubsets(c20, 4);
+        assertEquals(4845, subsets.set().size());
+
+        // orbits of C20 on 4-subsets are necklaces with four black beads
+        BigInteger necklaces = CycleIndex.of(c20).countColoringsWithContent(4, 16);
+        assertEquals(necklaces.intValue(), ActionAnalyzer.orbits(subsets).size());
+
+        // S20 is generated by a transposition and the 20-cycle; its orbit search
+        // uses those generators and never enumerates the group
+        Permutation swap = Permutation.transposition(1, 2, 20);
+        PermutationGroup s20 = PermutationGroup.of(swap, rotation);
+        Action<Permutation, Integer> symmetric = InducedActions.onSubsets(s20, 4);
+        assertTrue(ActionAnalyzer.isTransitive(symmetric));
+        assertEquals(1, ActionAnalyzer.orbits(symmetric).size());
+        SchreierOrbit<Permutation, Integer> orbit = SchreierOrbit.of(symmetric, 0);
+        assertEquals(4845, orbit.size());
+        int target = InducedActions.subsetRank(3, 7, 11, 20);
+        assertEquals(target, symmetric.act(orbit.transversal(target), 0));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        assertThrows(IllegalArgumentException.class, () -> InducedActions.onSubsets(s4, 5));
+        assertThrows(IllegalArgumentException.class, () -> InducedActions.onTuples(s4, 20));
+        assertThrows(IllegalArgumentException.class, () -> InducedActions.subsetRank(1, 1));
+    }
+
+    @Test
+    void testBinomialOverflowIsRejected() {
+        // C(68, 34) ≈ 2.8 · 10¹⁹ leaves the long range
+        PermutationGroup c68 = PermutationGroup.of(shift(68));
+        assertThrows(IllegalArgumentException.class, () -> InducedActions.onSubsets(c68, 34));
+        assertThrows(ArithmeticException.class, () -> InducedActions.subsetRank(68, 67, 66, 65, 64, 63, 62, 61, 60,
+                59, 58, 57, 56, 55, 54, 53, 52, 51, 50, 49, 48, 47, 46, 45, 44, 43, 42, 41, 40, 39, 38, 37, 36, 35));
+    }
+}
@@ -0,0 +1,139 @@
+package d021248.group.action;
+
+import static d021248.group.GroupAssertions.shift;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+
+class MinimalImageTest {
+
+    private static Permutation reflection(int n) {
+        int[] mapping = new int[n];
+        for (int i = 0; i < n; i++) {
+            mapping[i] = n - i;
+        }
+        return new Permutation(mapping);
+    }
+
+    /** Smallest image by running over all group elements. */
+    private static int[] bruteForce(PermutationGroup group, int[] points, boolean sorted) {
+        int[] best = null;
+        for (Permutation g : group.elements()) {
+            int[] image = Arrays.stream(points).map(g::apply).toArray();
+            if (sorted) {
+                Arrays.sort(image);
+            }
+            if (best == null || Arrays.compare(image, best) < 0) {
+                best = image;
+            }
+        }
+        return best;
+    }
+
+    private static int[] mapped(Permutation g, int[] points) {
+        return Arrays.stream(points).map(g::apply).toArray();
+    }
+
+    @Test
+    void testRotations() {
+        PermutationGroup c6 = PermutationGroup.of(shift(6));
+        MinimalImage m = MinimalImage.ofSet(c6, 3, 5, 6);
+        assertArrayEquals(new int[] { 1, 2, 5 }, m.image());
+        int[] image = mapped(m.element(), new int[] { 3, 5, 6 });
+        Arrays.sort(image);
+        assertArrayEquals(m.image(), image);
+        assertTrue(c6.contains(m.element()));
+
+        assertTrue(MinimalImage.isMinimal(c6, 5, 2, 1));
+        assertFalse(MinimalImage.isMinimal(c6, 1, 3, 4));
+        assertArrayEquals(new int[] { 1, 3 }, MinimalImage.ofSequence(c6, 4, 6).image());
+    }
+
+    @Test
+    void testAgainstBruteForce() {
+        List<PermutationGroup> groups = List.of(
+                PermutationGroup.of(shift(8), reflection(8)),
+                PermutationGroup.of(new Permutation(new int[] { 2, 1, 4, 3, 6, 5, 8, 7 }),
+                        new Permutation(new int[] { 3, 4, 5, 6, 7, 8, 1, 2 }),
+                        new Permutation(new int[] { 1, 3, 2, 4, 5, 7, 6, 8 })),
+                PermutationGroup.of(new Permutation(new int[] { 2, 3, 1, 4, 5, 6, 7, 8 }),
+                        new Permutation(new int[] { 1, 2, 3, 5, 6, 7, 8, 4 })));
+        for (PermutationGroup group : groups) {
+            for (int mask = 0; mask < 1 << 8; mask++) {
+                int[] set = new int[Integer.bitCount(mask)];
+                for (int p = 0, i = 0; p < 8; p++) {
+                    if ((mask & (1 << p)) != 0) {
+                        set[i++] = p + 1;
+                    }
+                }
+                MinimalImage m = MinimalImage.ofSet(group, set);
+                assertArrayEquals(bruteForce(group, set, true), m.image(), Arrays.toString(set));
+                int[] image = mapped(m.element(), set);
+                Arrays.sort(image);
+                assertArrayEquals(m.image(), image);
+            }
+            int[][] sequences = { { 5, 2, 7 }, { 8, 8, 1, 3 }, { 4, 6, 2, 1, 7 }, { 3 } };
+            for (int[] sequence : sequences) {
+                MinimalImage m = MinimalImage.ofSequence(group, sequence);
+                assertArrayEquals(bruteForce(group, sequence, false), m.image());
+                assertArrayEquals(m.image(), mapped(m.element(), sequence));
+            }
+        }
+    }
+
+    @Test
+    void testOrderlyGenerationMatchesPolya() {
+        PermutationGroup cube = PermutationGroup.of(
+                new Permutation(new int[] { 1, 3, 5, 2, 4, 6 }),
+                new Permutation(new int[] { 3, 2, 6, 1, 5, 4 }));
+        CycleIndex z = CycleIndex.of(cube);
+        for (int k = 0; k <= 6; k++) {
+            List<int[]> representatives = new ArrayList<>();
+            long count = MinimalImage.forEachMinimalSubset(cube, k, representatives::add);
+            assertEquals(z.countColoringsWithContent(k, 6 - k), BigInteger.valueOf(count));
+            assertEquals(count, representatives.size());
+        }
+
+        PermutationGroup c20 = PermutationGroup.of(shift(20));
+        Set<List<Integer>> seen = new HashSet<>();
+        long count = MinimalImage.forEachMinimalSubset(c20, 4, s -> {
+            assertTrue(MinimalImage.isMinimal(c20, s));
+            assertTrue(seen.add(Arrays.stream(s).boxed().toList()));
+        });
+        assertEquals(CycleIndex.of(c20).countColoringsWithContent(4, 16), BigInteger.valueOf(count));
+    }
+
+    @Test
+    void testLargeSymmetricGroup() {
+        int n = 40;
+        PermutationGroup sn = PermutationGroup.of(shift(n), Permutation.transposition(1, 2, n));
+        MinimalImage m = MinimalImage.ofSet(sn, 40, 17, 33, 5);
+        assertArrayEquals(new int[] { 1, 2, 3, 4 }, m.image());
+        assertArrayEquals(new int[] { 1, 2, 1, 3 }, MinimalImage.ofSequence(sn, 9, 30, 9, 12).image());
+        assertEquals(1, MinimalImage.forEachMinimalSubset(sn, 5, s -> assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, s)));
+    }
+
+    @Test
+    void testInvalidInput() {
+        PermutationGroup c6 = PermutationGroup.of(shift(6));
+        assertThrows(IllegalArgumentException.class, () -> MinimalImage.ofSet(c6, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> MinimalImage.ofSet(c6, 7));
+        assertThrows(IllegalArgumentException.class, () -> MinimalImage.ofSequence(c6, 0));
+        assertThrows(IllegalArgumentException.class, () -> MinimalImage.forEachMinimalSubset(c6, 7, s -> {
+        }));
+    }
+}
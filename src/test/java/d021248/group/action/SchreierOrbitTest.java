@@ -0,0 +1,74 @@
+package d021248.group.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class SchreierOrbitTest {
+
+    private static Action<Permutation, Integer> natural(SymmetricGroup s, int n) {
+        Set<Integer> points = IntStream.rangeClosed(1, n).boxed().collect(Collectors.toSet());
+        return new Action<>(s, points, (p, i) -> p.mapping()[i - 1]);
+    }
+
+    @Test
+    void testTransversalsMapRootToEachPoint() {
+        Action<Permutation, Integer> action = natural(GroupFactory.symmetric(5), 5);
+        SchreierOrbit<Permutation, Integer> orb = SchreierOrbit.of(action, 2);
+
+        assertEquals(5, orb.size());
+        assertEquals(2, orb.root());
+        assertEquals(-1, orb.schreierLabel(2));
+        for (int y = 1; y <= 5; y++) {
+            assertEquals(y, action.act(orb.transversal(y), 2));
+        }
+    }
+
+    @Test
+    void testStabilizerFromSchreierGenerators() {
+        SymmetricGroup s5 = GroupFactory.symmetric(5);
+        SchreierOrbit<Permutation, Integer> orb = SchreierOrbit.of(natural(s5, 5), 1);
+
+        for (Permutation g : orb.stabilizerGenerators()) {
+            assertEquals(1, g.mapping()[0]);
+        }
+        assertEquals(24, orb.stabilizer().order());
+    }
+
+    @Test
+    void testOrbitUnderGivenGenerators() {
+        SymmetricGroup s6 = GroupFactory.symmetric(6);
+        // ⟨(1 2 3)⟩ acting on 1..6
+        Permutation c = new Permutation(new int[] { 2, 3, 1, 4, 5, 6 });
+        SchreierOrbit<Permutation, Integer> orb = SchreierOrbit.of(natural(s6, 6), s6, List.of(c), 2);
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(orb.points()));
+        assertFalse(orb.contains(4));
+        assertThrows(IllegalArgumentException.class, () -> orb.transversal(4));
+        assertEquals(1, orb.stabilizer().order());
+    }
+
+    @Test
+    void testAnalyzerUsesSchreierOrbits() {
+        CyclicGroup z12 = GroupFactory.cyclic(12);
+        // Z12 acting on Z12 by translation with 4·g: orbits are the cosets of ⟨4⟩
+        Action<CyclicElement, CyclicElement> action = new Action<>(z12, z12.elements(),
+                (g, x) -> new CyclicElement((x.value() + 4 * g.value()) % 12, 12));
+        assertEquals(4, ActionAnalyzer.orbits(action).size());
+        assertEquals(4, ActionAnalyzer.stabilizer(action, z12.identity()).order());
+        assertTrue(ActionAnalyzer.verifyOrbitStabilizer(action, new CyclicElement(5, 12)));
+    }
+}
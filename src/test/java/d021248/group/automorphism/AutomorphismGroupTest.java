@@ -0,0 +1,69 @@
+package d021248.group.automorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.product.DirectProduct;
+import d021248.group.product.ProductElement;
+import d021248.group.symmetric.Permutation;
+
+class AutomorphismGroupTest {
+
+    @Test
+    void testCyclicGroups() {
+        // Aut(Z_n) ≅ (Z_n)*, of order φ(n)
+        assertEquals(4, new AutomorphismGroup<>(GroupFactory.cyclic(12)).order());
+        assertEquals(6, new AutomorphismGroup<>(GroupFactory.cyclic(7)).order());
+        assertEquals(1, new AutomorphismGroup<>(GroupFactory.cyclic(2)).order());
+        assertEquals(1, new AutomorphismGroup<>(GroupFactory.cyclic(1)).order());
+    }
+
+    @Test
+    void testKleinFourGroup() {
+        DirectProduct<CyclicElement, CyclicElement> v4 = GroupFactory.directProduct(
+                GroupFactory.cyclic(2), GroupFactory.cyclic(2));
+        AutomorphismGroup<ProductElement<CyclicElement, CyclicElement>> aut = new AutomorphismGroup<>(v4);
+
+        assertEquals(6, aut.order());
+        assertEquals(1, aut.innerOrder());
+        assertEquals(6, aut.outerOrder());
+        assertFalse(aut.permutationGroup().isAbelian());
+    }
+
+    @Test
+    void testSymmetricAndDihedralGroups() {
+        AutomorphismGroup<Permutation> autS3 = new AutomorphismGroup<>(GroupFactory.symmetric(3));
+        assertEquals(6, autS3.order());
+        assertEquals(1, autS3.outerOrder());
+
+        AutomorphismGroup<?> autD4 = new AutomorphismGroup<>(GroupFactory.dihedral(4));
+        assertEquals(8, autD4.order());
+        assertEquals(4, autD4.innerOrder());
+    }
+
+    @Test
+    void testS6HasOuterAutomorphism() {
+        AutomorphismGroup<Permutation> aut = new AutomorphismGroup<>(GroupFactory.symmetric(6));
+        assertEquals(1440, aut.order());
+        assertEquals(720, aut.innerOrder());
+        assertEquals(2, aut.outerOrder());
+    }
+
+    @Test
+    void testMembershipAndGenerators() {
+        AutomorphismGroup<Permutation> aut = new AutomorphismGroup<>(GroupFactory.symmetric(4));
+        assertEquals(24, aut.order());
+        for (Automorphism<Permutation> generator : aut.generators()) {
+            assertTrue(AutomorphismAnalyzer.isAutomorphism(generator));
+            assertTrue(aut.contains(generator));
+        }
+        Permutation g = Permutation.cycle(1, 2, 3, 4);
+        assertTrue(aut.contains(AutomorphismAnalyzer.innerAutomorphism(GroupFactory.symmetric(4), g)));
+        assertFalse(aut.contains(new Automorphism<>(GroupFactory.symmetric(4), p -> p.compose(g))));
+    }
+}
@@ -2,6 +2,8 @@ package d021248.group.automorphism;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Set;
@@ -9,6 +11,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import d021248.group.GroupFactory;
+import d021248.group.IndexedGroup;
 import d021248.group.cyclic.CyclicElement;
 import d021248.group.cyclic.CyclicGroup;
 import d021248.group.homomorphism.GroupHomomorphism;
@@ -66,8 +69,8 @@ class AutomorphismTest {
         CyclicGroup z4 = GroupFactory.cyclic(4);
         Set<Automorphism<CyclicElement>> innerAutos = AutomorphismAnalyzer.innerAutomorphisms(z4);
 
-        // Should have 4 inner automorphisms (one per element)
-        assertEquals(4, innerAutos.size());
+        // All four conjugations are the identity map, so the set has one element
+        assertEquals(1, innerAutos.size());
 
         // All should be identity in abelian group
         Automorphism<CyclicElement> id = AutomorphismAnalyzer.identity(z4);
@@ -123,6 +126,20 @@ class AutomorphismTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void testComposeValidatesOnlyWhenTabulating() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        Automorphism<Permutation> constant = new Automorphism<>(s3, p -> s3.identity());
+        Automorphism<Permutation> inner = AutomorphismAnalyzer.innerAutomorphism(s3, Permutation.cycle(1, 2, 3));
+
+        // two lambdas are composed as maps, without validation
+        assertEquals(s3.identity(), AutomorphismAnalyzer.compose(inner, constant).apply(Permutation.cycle(1, 2, 3)));
+        // a tabulated side tabulates the other, which must then be an automorphism
+        Automorphism<Permutation> tabulated = AutomorphismAnalyzer.tabulate(inner);
+        assertThrows(IllegalArgumentException.class, () -> AutomorphismAnalyzer.compose(tabulated, constant));
+        assertThrows(IllegalArgumentException.class, () -> AutomorphismAnalyzer.compose(constant, tabulated));
+    }
+
     @Test
     void testInverseAutomorphism() {
         SymmetricGroup s3 = GroupFactory.symmetric(3);
@@ -195,4 +212,48 @@ class AutomorphismTest {
         // This is not an inner automorphism (Z_4 has only identity inner auto)
         assertFalse(AutomorphismAnalyzer.isInner(auto));
     }
+
+    @Test
+    void testInnerAutomorphismsOfLargeGroups() {
+        // |Inn(D_500)| = 1000 / |Z(D_500)| = 1000 / 2
+        assertEquals(500, AutomorphismAnalyzer.countDistinctInnerAutomorphisms(GroupFactory.dihedral(500)));
+
+        // S_6 has an outer automorphism: Aut(S_6) is twice as large as Inn(S_6)
+        SymmetricGroup s6 = GroupFactory.symmetric(6);
+        AutomorphismGroup<Permutation> aut = AutomorphismAnalyzer.automorphismGroup(s6);
+        long outer = aut.generators().stream().filter(a -> !AutomorphismAnalyzer.isInner(a)).count();
+        assertTrue(outer > 0);
+        assertTrue(AutomorphismAnalyzer.isInner(
+                AutomorphismAnalyzer.innerAutomorphism(s6, Permutation.cycle(1, 2, 3, 4, 5, 6))));
+    }
+
+    @Test
+    void testIsInnerRejectsMapAgreeingOnlyOnGenerators() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        Automorphism<Permutation> identity = AutomorphismAnalyzer.identity(s3);
+        // agrees with the identity except on one non-generator element
+        Permutation odd = Permutation.transposition(2, 3, 3);
+        Automorphism<Permutation> broken = new Automorphism<>(s3,
+                p -> p.equals(s3.identity()) ? odd : identity.apply(p));
+        assertFalse(AutomorphismAnalyzer.isInner(broken));
+    }
+
+    @Test
+    void testSharedIndex() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        IndexedGroup<Permutation> indexed = IndexedGroup.of(s4);
+        Automorphism<Permutation> inner = AutomorphismAnalyzer.innerAutomorphism(s4, Permutation.cycle(1, 2, 3, 4));
+
+        Automorphism<Permutation> tabulated = AutomorphismAnalyzer.tabulate(indexed, inner);
+        assertSame(indexed, ((TabulatedAutomorphism<Permutation>) tabulated.mapping()).group());
+        assertSame(tabulated, AutomorphismAnalyzer.tabulate(indexed, tabulated));
+        assertTrue(AutomorphismAnalyzer.isInner(indexed, inner));
+        assertTrue(AutomorphismAnalyzer.innerAutomorphisms(indexed).stream()
+                .allMatch(a -> ((TabulatedAutomorphism<Permutation>) a.mapping()).group() == indexed));
+        assertEquals(24, AutomorphismAnalyzer.countDistinctInnerAutomorphisms(indexed));
+
+        IndexedGroup<Permutation> other = IndexedGroup.of(GroupFactory.symmetric(4));
+        assertThrows(IllegalArgumentException.class, () -> AutomorphismAnalyzer.tabulate(other, inner));
+        assertThrows(IllegalArgumentException.class, () -> AutomorphismAnalyzer.isInner(other, inner));
+    }
 }
@@ -0,0 +1,84 @@
+package d021248.group.automorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.IndexedGroup;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class TabulatedAutomorphismTest {
+
+    @Test
+    void testInverseAndComposition() {
+        IndexedGroup<Permutation> s4 = IndexedGroup.of(GroupFactory.symmetric(4));
+        TabulatedAutomorphism<Permutation> c = TabulatedAutomorphism.inner(s4, s4.indexOf(Permutation.cycle(1, 2, 3, 4)));
+        TabulatedAutomorphism<Permutation> id = TabulatedAutomorphism.identity(s4);
+
+        assertEquals(id, c.compose(c.inverse()));
+        assertEquals(c.inverse(), c.compose(c).compose(c));
+        assertEquals(id, c.compose(c).compose(c).compose(c));
+        assertNotEquals(id, c);
+    }
+
+    @Test
+    void testSetsDeduplicateEqualMaps() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        // Z(S_4) is trivial, so the 24 conjugations are distinct
+        assertEquals(24, AutomorphismAnalyzer.innerAutomorphisms(s4).size());
+
+        IndexedGroup<CyclicElement> z6 = IndexedGroup.of(GroupFactory.cyclic(6));
+        Set<TabulatedAutomorphism<CyclicElement>> maps = new HashSet<>();
+        for (int k : new int[] { 1, 5, 7, 11, 13 }) {
+            int factor = k;
+            maps.add(TabulatedAutomorphism.of(z6, e -> new CyclicElement((factor * e.value()) % 6, 6)));
+        }
+        assertEquals(2, maps.size());
+    }
+
+    @Test
+    void testEqualityAcrossIndexes() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        Permutation g = Permutation.cycle(1, 2, 3);
+        TabulatedAutomorphism<Permutation> a = TabulatedAutomorphism.of(IndexedGroup.of(s3),
+                AutomorphismAnalyzer.innerAutomorphism(s3, g));
+        TabulatedAutomorphism<Permutation> b = TabulatedAutomorphism.of(new IndexedGroup<>(s3),
+                AutomorphismAnalyzer.innerAutomorphism(s3, g));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    void testRejectsNonAutomorphisms() {
+        IndexedGroup<CyclicElement> z4 = IndexedGroup.of(GroupFactory.cyclic(4));
+        // x ↦ 2x is not injective
+        assertThrows(IllegalArgumentException.class,
+                () -> TabulatedAutomorphism.of(z4, e -> new CyclicElement((2 * e.value()) % 4, 4)));
+        // swapping 1 and 2 is a bijection but not a homomorphism
+        assertThrows(IllegalArgumentException.class, () -> TabulatedAutomorphism.of(z4,
+                e -> new CyclicElement(e.value() == 1 ? 2 : e.value() == 2 ? 1 : e.value(), 4)));
+    }
+
+    @Test
+    void testAnalyzerUsesTables() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        Automorphism<Permutation> inner = AutomorphismAnalyzer.tabulate(
+                AutomorphismAnalyzer.innerAutomorphism(s3, Permutation.transposition(1, 2, 3)));
+
+        Automorphism<Permutation> inverse = AutomorphismAnalyzer.inverse(inner);
+        assertTrue(inverse.mapping() instanceof TabulatedAutomorphism);
+        Automorphism<Permutation> composed = AutomorphismAnalyzer.compose(inner, inverse);
+        assertTrue(composed.mapping() instanceof TabulatedAutomorphism);
+        assertEquals(AutomorphismAnalyzer.tabulate(AutomorphismAnalyzer.identity(s3)), composed);
+    }
+}
@@ -0,0 +1,51 @@
+package d021248.group.homomorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+
+class GroupFingerprintTest {
+
+    @Test
+    void testSymmetricGroupInvariants() {
+        GroupFingerprint s4 = GroupFingerprint.of(GroupFactory.symmetric(4));
+
+        assertEquals(24, s4.order());
+        assertFalse(s4.abelian());
+        assertEquals(List.of(1, 3, 6, 6, 8), s4.classSizes());
+        assertEquals(5, s4.classCount());
+        assertEquals(1, s4.centerOrder());
+        assertEquals(12, s4.derivedOrder());
+        assertEquals(9, s4.elementsOfOrder(2));
+        assertEquals(6, s4.elementsOfOrder(4));
+        assertEquals(0, s4.elementsOfOrder(5));
+    }
+
+    @Test
+    void testIsomorphicGroupsShareFingerprint() {
+        assertEquals(GroupFingerprint.of(GroupFactory.symmetric(3)), GroupFingerprint.of(GroupFactory.dihedral(3)));
+        assertEquals(GroupFingerprint.of(GroupFactory.cyclic(6)),
+                GroupFingerprint.of(GroupFactory.directProduct(GroupFactory.cyclic(2), GroupFactory.cyclic(3))));
+        assertNotEquals(GroupFingerprint.of(GroupFactory.cyclic(4)),
+                GroupFingerprint.of(GroupFactory.directProduct(GroupFactory.cyclic(2), GroupFactory.cyclic(2))));
+    }
+
+    @Test
+    void testAbelianAndDihedralDerivedSubgroups() {
+        GroupFingerprint z12 = GroupFingerprint.of(GroupFactory.cyclic(12));
+        assertTrue(z12.abelian());
+        assertEquals(12, z12.centerOrder());
+        assertEquals(1, z12.derivedOrder());
+
+        GroupFingerprint d8 = GroupFingerprint.of(GroupFactory.dihedral(8));
+        assertEquals(2, d8.centerOrder());
+        assertEquals(4, d8.derivedOrder());
+    }
+}
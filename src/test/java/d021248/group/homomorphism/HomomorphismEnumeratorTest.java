@@ -0,0 +1,82 @@
+package d021248.group.homomorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.product.DirectProduct;
+import d021248.group.product.ProductElement;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class HomomorphismEnumeratorTest {
+
+    @Test
+    void testCyclicCountIsGcd() {
+        assertEquals(2, HomomorphismEnumerator.count(GroupFactory.cyclic(4), GroupFactory.cyclic(6)));
+        assertEquals(1, HomomorphismEnumerator.count(GroupFactory.cyclic(5), GroupFactory.cyclic(3)));
+        assertEquals(6, HomomorphismEnumerator.count(GroupFactory.cyclic(12), GroupFactory.cyclic(18)));
+    }
+
+    @Test
+    void testSymmetricCounts() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        HomomorphismEnumerator<Permutation, Permutation> s4s3 = new HomomorphismEnumerator<>(s4, s3);
+        assertEquals(10, s4s3.count());
+        assertEquals(3, s4s3.countUpToConjugation());
+        assertEquals(10, HomomorphismEnumerator.count(s3, s3));
+        // elements of S4 of order dividing 4
+        assertEquals(16, HomomorphismEnumerator.count(GroupFactory.cyclic(4), s4));
+    }
+
+    @Test
+    void testKleinFourIntoS3() {
+        DirectProduct<CyclicElement, CyclicElement> v4 = GroupFactory.directProduct(
+                GroupFactory.cyclic(2), GroupFactory.cyclic(2));
+        HomomorphismEnumerator<ProductElement<CyclicElement, CyclicElement>, Permutation> e = new HomomorphismEnumerator<>(
+                v4, GroupFactory.symmetric(3));
+        assertEquals(10, e.count());
+        // trivial, and the three nontrivial maps onto one ⟨transposition⟩
+        assertEquals(4, e.countUpToConjugation());
+    }
+
+    @Test
+    void testListedMapsAreDistinctHomomorphisms() {
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        List<Homomorphism<Permutation, Permutation>> all = HomomorphismEnumerator.list(s3, s3);
+        assertEquals(10, all.size());
+        long automorphisms = all.stream().filter(HomomorphismAnalyzer::isIsomorphism).count();
+        assertEquals(6, automorphisms);
+        for (Homomorphism<Permutation, Permutation> phi : all) {
+            assertTrue(HomomorphismAnalyzer.isHomomorphism(phi));
+        }
+        assertEquals(10, all.stream().map(TabulatedHomomorphism::of)
+                .map(t -> Arrays.toString(
+                        IntStream.range(0, t.indexedSource().order()).map(t::applyIndex).toArray()))
+                .distinct().count());
+    }
+
+    @Test
+    void testListUpToConjugationOnCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            HomomorphismEnumerator<Permutation, Permutation> e = new HomomorphismEnumerator<>(
+                    GroupFactory.symmetric(4), GroupFactory.symmetric(3), pool);
+            List<Homomorphism<Permutation, Permutation>> reps = e.listUpToConjugation();
+            assertEquals(3, reps.size());
+            assertEquals(List.of(1, 2, 6), reps.stream()
+                    .map(phi -> HomomorphismAnalyzer.image(phi).order()).sorted().toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
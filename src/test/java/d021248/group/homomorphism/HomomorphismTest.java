@@ -2,8 +2,12 @@ package d021248.group.homomorphism;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 import d021248.group.GroupFactory;
@@ -14,6 +18,7 @@ import d021248.group.dihedral.DihedralGroup;
 import d021248.group.subgroup.Subgroup;
 import d021248.group.subgroup.SubgroupAnalyzer;
 import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
 import d021248.group.symmetric.SymmetricGroup;
 
 /**
@@ -186,4 +191,67 @@ class HomomorphismTest {
         assertEquals(1, kernel.order());
         assertTrue(kernel.elements().contains(z5.identity()));
     }
+
+    @Test
+    void testFromGeneratorImagesSign() {
+        SymmetricGroup s6 = GroupFactory.symmetric(6);
+        CyclicGroup z2 = GroupFactory.cyclic(2);
+        CyclicElement odd = new CyclicElement(1, 2);
+
+        Homomorphism<Permutation, CyclicElement> sign = Homomorphism.fromGeneratorImages(s6, z2, Map.of(
+                Permutation.cycle(1, 2, 3, 4, 5, 6), odd,
+                Permutation.transposition(1, 2, 6), odd));
+
+        for (Permutation p : s6.elements()) {
+            assertEquals(p.sign() == 1 ? 0 : 1, sign.apply(p).value());
+        }
+        assertEquals(360, HomomorphismAnalyzer.kernel(sign).order());
+    }
+
+    @Test
+    void testFromGeneratorImagesIsHomomorphism() {
+        CyclicGroup z12 = GroupFactory.cyclic(12);
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+
+        Homomorphism<CyclicElement, CyclicElement> reduce = Homomorphism.fromGeneratorImages(z12, z4,
+                Map.of(new CyclicElement(1, 12), new CyclicElement(3, 4)));
+
+        assertTrue(HomomorphismAnalyzer.isHomomorphism(reduce));
+        assertEquals(new CyclicElement(2, 4), reduce.apply(new CyclicElement(6, 12)));
+    }
+
+    @Test
+    void testFromGeneratorImagesRejectsInvalidDefinitions() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+
+        // 1 has order 6 but its image has order 4, which does not divide 6
+        assertThrows(IllegalArgumentException.class, () -> Homomorphism.fromGeneratorImages(z6, z4,
+                Map.of(new CyclicElement(1, 6), new CyclicElement(1, 4))));
+        // a single transposition does not generate S_3
+        assertThrows(IllegalArgumentException.class, () -> Homomorphism.fromGeneratorImages(s3, s3,
+                Map.of(Permutation.transposition(1, 2, 3), Permutation.transposition(1, 2, 3))));
+        // the image lies in Z_6, not in the target Z_2
+        assertThrows(IllegalArgumentException.class, () -> Homomorphism.fromGeneratorImages(z6,
+                GroupFactory.cyclic(2), Map.of(new CyclicElement(1, 6), new CyclicElement(3, 6))));
+    }
+
+    @Test
+    void testFromGeneratorImagesIntoLargePermutationGroup() {
+        // S_20 has order 20! and is only ever sifted, never enumerated
+        Permutation rotation = Permutation.cycle(IntStream.rangeClosed(1, 20).toArray());
+        Permutation swap = Permutation.transposition(1, 2, 20);
+        PermutationGroup s20 = PermutationGroup.of(swap, rotation);
+        CyclicGroup z20 = GroupFactory.cyclic(20);
+
+        Homomorphism<CyclicElement, Permutation> phi = Homomorphism.fromGeneratorImages(z20, s20,
+                Map.of(new CyclicElement(1, 20), rotation));
+        assertEquals(rotation.compose(rotation).compose(rotation), phi.apply(new CyclicElement(3, 20)));
+
+        // a transposition is not in the cyclic subgroup generated by the rotation
+        PermutationGroup c20 = PermutationGroup.of(rotation);
+        assertThrows(IllegalArgumentException.class,
+                () -> Homomorphism.fromGeneratorImages(z20, c20, Map.of(new CyclicElement(1, 20), swap)));
+    }
 }
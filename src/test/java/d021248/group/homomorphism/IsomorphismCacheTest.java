@@ -0,0 +1,61 @@
+package d021248.group.homomorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.Group;
+import d021248.group.GroupFactory;
+import d021248.group.dihedral.DihedralGroup;
+
+class IsomorphismCacheTest {
+
+    @Test
+    void testIsomorphicGroupsHitCache() {
+        IsomorphismCache<Integer> cache = new IsomorphismCache<>();
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(6, cache.computeIfAbsent(GroupFactory.symmetric(3), g -> {
+            computations.incrementAndGet();
+            return g.order();
+        }));
+        assertEquals(6, cache.computeIfAbsent(GroupFactory.dihedral(3), g -> {
+            computations.incrementAndGet();
+            return -1;
+        }));
+        assertEquals(1, computations.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertTrue(cache.get(GroupFactory.cyclic(6)).isEmpty());
+    }
+
+    @Test
+    void testNonIsomorphicGroupsAreKeptApart() {
+        IsomorphismCache<String> cache = new IsomorphismCache<>();
+        cache.computeIfAbsent(GroupFactory.cyclic(4), g -> "Z4");
+        cache.computeIfAbsent(GroupFactory.directProduct(GroupFactory.cyclic(2), GroupFactory.cyclic(2)), g -> "V4");
+
+        assertEquals(2, cache.size());
+        assertEquals("Z4", cache.get(GroupFactory.cyclic(4)).orElseThrow());
+        assertEquals("V4", cache.get(GroupFactory.dihedral(2)).orElseThrow());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testConcurrentLookupsComputeOnce() {
+        IsomorphismCache<Integer> cache = new IsomorphismCache<>();
+        AtomicInteger computations = new AtomicInteger();
+        List<Group<?>> groups = List.of(new DihedralGroup(6), new DihedralGroup(6), new DihedralGroup(6),
+                GroupFactory.directProduct(GroupFactory.symmetric(3), GroupFactory.cyclic(2)));
+
+        groups.parallelStream().forEach(g -> cache.computeIfAbsent(g, x -> computations.incrementAndGet()));
+
+        assertEquals(1, computations.get());
+        assertEquals(3, cache.hits());
+    }
+}
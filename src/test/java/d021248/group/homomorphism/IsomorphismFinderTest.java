@@ -0,0 +1,84 @@
+package d021248.group.homomorphism;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.api.Element;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.dihedral.DihedralElement;
+import d021248.group.dihedral.DihedralGroup;
+import d021248.group.product.DirectProduct;
+import d021248.group.product.ProductElement;
+import d021248.group.quotient.Coset;
+import d021248.group.quotient.QuotientGroup;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class IsomorphismFinderTest {
+
+    private static <E1 extends Element, E2 extends Element> void assertIsomorphism(
+            Optional<Homomorphism<E1, E2>> iso) {
+        assertTrue(iso.isPresent());
+        assertTrue(HomomorphismAnalyzer.isHomomorphism(iso.get()));
+        assertTrue(HomomorphismAnalyzer.isIsomorphism(iso.get()));
+    }
+
+    @Test
+    void testCyclicProductIsomorphism() {
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        DirectProduct<CyclicElement, CyclicElement> z2z3 = GroupFactory.directProduct(
+                GroupFactory.cyclic(2), GroupFactory.cyclic(3));
+        assertIsomorphism(IsomorphismFinder.findIsomorphism(z6, z2z3));
+
+        DirectProduct<CyclicElement, CyclicElement> z2z2 = GroupFactory.directProduct(
+                GroupFactory.cyclic(2), GroupFactory.cyclic(2));
+        assertFalse(IsomorphismFinder.areIsomorphic(GroupFactory.cyclic(4), z2z2));
+    }
+
+    @Test
+    void testQuotientIsomorphicToSymmetricGroup() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        Subgroup<Permutation> kleinFour = new Subgroup<>(s4, Set.of(
+                Permutation.identity(4),
+                new Permutation(new int[] { 2, 1, 4, 3 }),
+                new Permutation(new int[] { 3, 4, 1, 2 }),
+                new Permutation(new int[] { 4, 3, 2, 1 })));
+        QuotientGroup<Permutation> quotient = GroupFactory.quotient(s4, kleinFour);
+
+        Optional<Homomorphism<Coset<Permutation>, Permutation>> iso = IsomorphismFinder.findIsomorphism(
+                quotient, GroupFactory.symmetric(3));
+        assertIsomorphism(iso);
+        assertFalse(IsomorphismFinder.areIsomorphic(quotient, GroupFactory.cyclic(6)));
+    }
+
+    @Test
+    void testDihedralIsomorphisms() {
+        DirectProduct<Permutation, CyclicElement> s3z2 = GroupFactory.directProduct(
+                GroupFactory.symmetric(3), GroupFactory.cyclic(2));
+        Optional<Homomorphism<DihedralElement, ProductElement<Permutation, CyclicElement>>> iso = IsomorphismFinder
+                .findIsomorphism(GroupFactory.dihedral(6), s3z2);
+        assertIsomorphism(iso);
+
+        // D_12 and S_4 both have order 24 but different element-order histograms
+        assertFalse(IsomorphismFinder.areIsomorphic(GroupFactory.dihedral(12), GroupFactory.symmetric(4)));
+    }
+
+    @Test
+    void testLargeDihedralGroupIsFast() {
+        DihedralGroup d1 = GroupFactory.dihedral(500);
+        DihedralGroup d2 = new DihedralGroup(500);
+        long start = System.nanoTime();
+        Optional<Homomorphism<DihedralElement, DihedralElement>> iso = IsomorphismFinder.findIsomorphism(d1, d2);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(iso.isPresent());
+        assertTrue(millis < 5_000, "took " + millis + " ms");
+    }
+}
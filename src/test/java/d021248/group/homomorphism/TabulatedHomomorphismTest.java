@@ -0,0 +1,79 @@
+package d021248.group.homomorphism;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class TabulatedHomomorphismTest {
+
+    @Test
+    void testMappingEvaluatedOnce() {
+        SymmetricGroup s4 = GroupFactory.symmetric(4);
+        CyclicGroup z2 = GroupFactory.cyclic(2);
+        AtomicInteger calls = new AtomicInteger();
+        Homomorphism<Permutation, CyclicElement> sign = new Homomorphism<>(s4, z2, p -> {
+            calls.incrementAndGet();
+            return new CyclicElement(p.sign() == 1 ? 0 : 1, 2);
+        });
+
+        Homomorphism<Permutation, CyclicElement> tabulated = HomomorphismAnalyzer.tabulate(sign);
+        assertEquals(24, calls.get());
+
+        assertTrue(HomomorphismAnalyzer.isHomomorphism(tabulated));
+        assertEquals(12, HomomorphismAnalyzer.kernel(tabulated).order());
+        assertEquals(2, HomomorphismAnalyzer.image(tabulated).order());
+        assertTrue(HomomorphismAnalyzer.isSurjective(tabulated));
+        assertFalse(HomomorphismAnalyzer.isInjective(tabulated));
+        assertFalse(HomomorphismAnalyzer.isIsomorphism(tabulated));
+        assertEquals(2, HomomorphismAnalyzer.firstIsomorphismTheorem(tabulated));
+        assertEquals(24, calls.get());
+
+        assertSame(tabulated, HomomorphismAnalyzer.tabulate(tabulated));
+        assertSame(HomomorphismAnalyzer.kernel(tabulated), HomomorphismAnalyzer.kernel(tabulated));
+    }
+
+    @Test
+    void testCompositionByTable() {
+        CyclicGroup z12 = GroupFactory.cyclic(12);
+        CyclicGroup z6 = GroupFactory.cyclic(6);
+        CyclicGroup z3 = GroupFactory.cyclic(3);
+
+        Homomorphism<CyclicElement, CyclicElement> phi = HomomorphismAnalyzer.tabulate(
+                new Homomorphism<>(z12, z6, e -> new CyclicElement(e.value() % 6, 6)));
+        Homomorphism<CyclicElement, CyclicElement> psi = HomomorphismAnalyzer.tabulate(
+                new Homomorphism<>(z6, z3, e -> new CyclicElement(e.value() % 3, 3)));
+
+        Homomorphism<CyclicElement, CyclicElement> composed = HomomorphismAnalyzer.compose(phi, psi);
+        assertTrue(composed.mapping() instanceof TabulatedHomomorphism);
+        for (CyclicElement e : z12.elements()) {
+            assertEquals(new CyclicElement(e.value() % 3, 3), composed.apply(e));
+        }
+        assertEquals(4, HomomorphismAnalyzer.kernel(composed).order());
+    }
+
+    @Test
+    void testIsomorphismDetection() {
+        CyclicGroup z5 = GroupFactory.cyclic(5);
+        TabulatedHomomorphism<CyclicElement, CyclicElement> doubling = TabulatedHomomorphism.of(
+                new Homomorphism<>(z5, z5, e -> new CyclicElement((2 * e.value()) % 5, 5)));
+
+        assertTrue(doubling.isIsomorphism());
+        assertEquals(1, doubling.kernelOrder());
+        assertEquals(5, doubling.imageIds().cardinality());
+
+        TabulatedHomomorphism<CyclicElement, CyclicElement> notHom = TabulatedHomomorphism.of(
+                new Homomorphism<>(z5, z5, e -> new CyclicElement((e.value() * e.value()) % 5, 5)));
+        assertFalse(notHom.isHomomorphism());
+    }
+}
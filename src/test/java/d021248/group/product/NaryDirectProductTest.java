@@ -0,0 +1,108 @@
+package d021248.group.product;
+
+import static d021248.group.GroupAssertions.orderStatistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+import d021248.group.util.GroupVerifier;
+
+class NaryDirectProductTest {
+
+    @Test
+    @DisplayName("Z_2^8 has order 256, exponent 2 and satisfies the axioms")
+    void elementaryAbelianPower() {
+        NaryDirectProduct z2to8 = GroupFactory.directPower(GroupFactory.cyclic(2), 8);
+        assertEquals(256, z2to8.order());
+        assertEquals(256, z2to8.elements().size());
+        assertEquals(2, z2to8.exponent());
+        assertTrue(z2to8.isAbelian());
+        assertEquals(Map.of(1, 1, 2, 255), orderStatistics(z2to8));
+        var result = GroupVerifier.verify(z2to8);
+        assertTrue(result.ok(), result.summary());
+    }
+
+    @Test
+    @DisplayName("Products and inverses are componentwise")
+    void componentwiseOperation() {
+        CyclicGroup z3 = GroupFactory.cyclic(3);
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+        SymmetricGroup s3 = GroupFactory.symmetric(3);
+        NaryDirectProduct g = GroupFactory.directProduct(z3, s3, z4);
+        assertEquals(72, g.order());
+        assertFalse(g.isAbelian());
+
+        Permutation swap = Permutation.transposition(1, 2, 3);
+        Permutation rotation = Permutation.cycle(1, 2, 3);
+        TupleElement a = g.element(new CyclicElement(1, 3), swap, new CyclicElement(2, 4));
+        TupleElement b = g.element(new CyclicElement(2, 3), rotation, new CyclicElement(3, 4));
+        TupleElement ab = g.operate(a, b);
+        assertEquals(List.of(new CyclicElement(0, 3), s3.operate(swap, rotation), new CyclicElement(1, 4)),
+                g.components(ab));
+        assertEquals(s3.operate(swap, rotation), ab.component(1));
+        assertEquals(g.identity(), g.operate(a, g.inverse(a)));
+        assertEquals(12, g.order(b));
+        assertEquals(g.element(z3.identity(), s3.identity(), z4.identity()), g.identity());
+        assertEquals(a, g.elementAt(a.index()));
+        assertTrue(GroupVerifier.verify(g).ok());
+    }
+
+    @Test
+    @DisplayName("Matches the nested binary product")
+    void matchesBinaryProduct() {
+        CyclicGroup z2 = GroupFactory.cyclic(2);
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+        var nested = new DirectProduct<>(new DirectProduct<>(z2, z4), z4);
+        NaryDirectProduct flat = NaryDirectProduct.of(z2, z4, z4);
+        assertEquals(nested.order(), flat.order());
+        assertEquals(orderStatistics(nested), orderStatistics(flat));
+    }
+
+    @Test
+    @DisplayName("A dozen factors stay cheap")
+    void manyFactors() {
+        NaryDirectProduct s3to12 = NaryDirectProduct.power(GroupFactory.symmetric(3), 12);
+        assertEquals(2176782336L, s3to12.exactOrder());
+        assertThrows(ArithmeticException.class, s3to12::order);
+        assertEquals(Integer.MAX_VALUE, s3to12.elements().size());
+
+        TupleElement x = s3to12.elementAt(1234567890123L % s3to12.exactOrder());
+        TupleElement y = s3to12.elementAt(s3to12.exactOrder() - 1);
+        TupleElement xy = s3to12.operate(x, y);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(GroupFactory.symmetric(3).operate((Permutation) x.component(i), (Permutation) y.component(i)),
+                    xy.component(i));
+        }
+        assertTrue(s3to12.elements().contains(xy));
+        assertEquals(s3to12.identity(), s3to12.operate(s3to12.inverse(xy), xy));
+        assertEquals(6, s3to12.exponent());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void invalidArguments() {
+        NaryDirectProduct g = NaryDirectProduct.of(GroupFactory.cyclic(2), GroupFactory.cyclic(3));
+        assertThrows(IllegalArgumentException.class, () -> g.element(new CyclicElement(1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> g.element(new CyclicElement(1, 2), new CyclicElement(1, 5)));
+        assertThrows(IllegalArgumentException.class, () -> g.elementAt(6));
+        assertThrows(IllegalArgumentException.class, () -> NaryDirectProduct.power(GroupFactory.cyclic(2), 0));
+        assertThrows(IllegalArgumentException.class, () -> new NaryDirectProduct(List.of()));
+        NaryDirectProduct other = NaryDirectProduct.of(GroupFactory.cyclic(2), GroupFactory.cyclic(3));
+        assertThrows(IllegalArgumentException.class, () -> g.inverse(other.identity()));
+        assertThrows(IllegalArgumentException.class, () -> g.operate(other.identity(), g.identity()));
+        assertThrows(IllegalArgumentException.class, () -> g.operate(g.identity(), other.identity()));
+        assertFalse(g.elements().contains(other.identity()));
+    }
+}
@@ -0,0 +1,126 @@
+package d021248.group.product;
+
+import static d021248.group.GroupAssertions.orderStatistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import d021248.group.GroupFactory;
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.dihedral.DihedralElement;
+import d021248.group.dihedral.DihedralGroup;
+import d021248.group.dihedral.Flip;
+import d021248.group.symmetric.Permutation;
+import d021248.group.util.GroupVerifier;
+
+class SemidirectProductTest {
+
+    /** Z_n ⋊ Z_2 with the generator of Z_2 acting by inversion. */
+    private static SemidirectProduct<CyclicElement, CyclicElement> dihedral(int n) {
+        return GroupFactory.semidirectProduct(GroupFactory.cyclic(n), GroupFactory.cyclic(2),
+                h -> x -> new CyclicElement(h.value() == 0 ? x.value() : (n - x.value()) % n, n));
+    }
+
+    @Test
+    @DisplayName("Inversion on Z_n gives the dihedral group")
+    void dihedralGroup() {
+        var d6 = dihedral(6);
+        assertEquals(12, d6.order());
+        assertFalse(d6.isAbelian());
+        assertEquals(orderStatistics(GroupFactory.dihedral(6)), orderStatistics(d6));
+        var result = GroupVerifier.verify(d6);
+        assertTrue(result.ok(), result.summary());
+    }
+
+    @Test
+    @DisplayName("Frobenius group of order 21")
+    void frobeniusGroup() {
+        CyclicGroup z7 = GroupFactory.cyclic(7);
+        CyclicGroup z3 = GroupFactory.cyclic(3);
+        var f21 = new SemidirectProduct<>(z7, z3,
+                h -> n -> new CyclicElement(n.value() * (1 << h.value()) % 7, 7));
+        assertEquals(21, f21.order());
+        assertFalse(f21.isAbelian());
+        assertEquals(Map.of(1, 1, 3, 14, 7, 6), orderStatistics(f21));
+        assertTrue(GroupVerifier.verify(f21).ok());
+
+        // h n h⁻¹ = φ(h)(n)
+        var n = new ProductElement<>(new CyclicElement(1, 7), new CyclicElement(0, 3));
+        var h = new ProductElement<>(new CyclicElement(0, 7), new CyclicElement(1, 3));
+        assertEquals(new ProductElement<>(new CyclicElement(2, 7), new CyclicElement(0, 3)),
+                f21.operate(f21.operate(h, n), f21.inverse(h)));
+    }
+
+    @Test
+    @DisplayName("Trivial action gives the direct product")
+    void trivialAction() {
+        var z3z4 = new SemidirectProduct<>(GroupFactory.cyclic(3), GroupFactory.cyclic(4), h -> x -> x);
+        assertTrue(z3z4.isAbelian());
+        assertEquals(orderStatistics(GroupFactory.cyclic(12)), orderStatistics(z3z4));
+    }
+
+    @Test
+    @DisplayName("Holomorphs of cyclic groups")
+    void holomorph() {
+        SemidirectProduct<CyclicElement, Permutation> hol3 = SemidirectProduct.holomorph(GroupFactory.cyclic(3));
+        assertEquals(orderStatistics(GroupFactory.symmetric(3)), orderStatistics(hol3));
+
+        // Hol(Z5) = AGL(1, 5), the Frobenius group of order 20
+        var hol5 = SemidirectProduct.holomorph(GroupFactory.cyclic(5));
+        assertEquals(20, hol5.order());
+        assertEquals(Map.of(1, 1, 2, 5, 4, 10, 5, 4), orderStatistics(hol5));
+        assertTrue(GroupVerifier.verify(hol5).ok());
+    }
+
+    /** (n, h) ↦ rⁿ sʰ, an isomorphism Z_5 ⋊ Z_2 → D_5 since s r s⁻¹ = r⁻¹ in both. */
+    private static DihedralElement toDihedral(ProductElement<CyclicElement, CyclicElement> element) {
+        return new DihedralElement(element.first().value(),
+                element.second().value() == 0 ? Flip.ROTATION : Flip.REFLECTION, 5);
+    }
+
+    @Test
+    @DisplayName("Id arithmetic matches the dihedral group D_5")
+    void idArithmetic() {
+        var d5 = dihedral(5);
+        DihedralGroup reference = GroupFactory.dihedral(5);
+        Set<DihedralElement> images = new HashSet<>();
+        for (int a = 0; a < d5.order(); a++) {
+            DihedralElement x = toDihedral(d5.elementAt(a));
+            images.add(x);
+            assertEquals(reference.inverse(x), toDihedral(d5.elementAt(d5.inverse(a))));
+            for (int b = 0; b < d5.order(); b++) {
+                DihedralElement y = toDihedral(d5.elementAt(b));
+                assertEquals(reference.operate(x, y), toDihedral(d5.elementAt(d5.multiply(a, b))));
+            }
+        }
+        assertEquals(reference.elements(), images);
+        assertEquals(d5.order(), d5.elements().size());
+        assertTrue(d5.elements().contains(d5.elementAt(7)));
+        assertFalse(d5.elements().contains(new ProductElement<>(new CyclicElement(0, 6), new CyclicElement(0, 2))));
+    }
+
+    @Test
+    @DisplayName("Maps that are not homomorphisms into Aut(N) are rejected")
+    void invalidActions() {
+        CyclicGroup z3 = GroupFactory.cyclic(3);
+        CyclicGroup z4 = GroupFactory.cyclic(4);
+        // inversion for every non-identity h: φ(2) ≠ φ(1)²
+        assertThrows(IllegalArgumentException.class, () -> new SemidirectProduct<>(z3, z4,
+                h -> x -> h.value() == 0 ? x : new CyclicElement((3 - x.value()) % 3, 3)));
+        // not bijective
+        assertThrows(IllegalArgumentException.class, () -> new SemidirectProduct<>(z3, z4,
+                h -> x -> h.value() == 0 ? x : z3.identity()));
+        // not into N
+        assertThrows(IllegalArgumentException.class, () -> new SemidirectProduct<>(z3, z4,
+                h -> x -> new CyclicElement(0, 5)));
+    }
+}
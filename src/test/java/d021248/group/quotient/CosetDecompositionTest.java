@@ -0,0 +1,92 @@
+package d021248.group.quotient;
+
+import static d021248.group.GroupAssertions.pointStabilizer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.subgroup.SubgroupGenerator;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class CosetDecompositionTest {
+
+    @Test
+    void testLeftCosetsOfPointStabilizer() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        CosetDecomposition<Permutation> cosets = CosetDecomposition.left(s4, pointStabilizer(s4, 4));
+
+        assertEquals(4, cosets.index());
+        assertEquals(0, cosets.cosetIndex(s4.identity()));
+        assertEquals(4, cosets.transversal().count());
+
+        // gH = g'H iff g and g' send 4 to the same point
+        for (Permutation g : s4.elements()) {
+            for (Permutation h : s4.elements()) {
+                boolean sameCoset = cosets.cosetIndex(g) == cosets.cosetIndex(h);
+                assertEquals(g.mapping()[3] == h.mapping()[3], sameCoset);
+            }
+        }
+    }
+
+    @Test
+    void testCosetsPartitionGroup() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        CosetDecomposition<Permutation> cosets = CosetDecomposition.right(s4, pointStabilizer(s4, 1));
+
+        Set<Permutation> union = new HashSet<>();
+        for (int i = 0; i < cosets.index(); i++) {
+            Set<Permutation> coset = cosets.coset(i);
+            assertEquals(6, coset.size());
+            assertTrue(coset.contains(cosets.representative(i)));
+            union.addAll(coset);
+        }
+        assertEquals(s4.elements(), union);
+    }
+
+    @Test
+    void testLeftAndRightDifferForNonNormalSubgroup() {
+        SymmetricGroup s3 = new SymmetricGroup(3);
+        Subgroup<Permutation> h = SubgroupGenerator.generate(s3, Set.of(Permutation.transposition(1, 2, 3)));
+        CosetDecomposition<Permutation> left = CosetDecomposition.left(s3, h);
+        CosetDecomposition<Permutation> right = CosetDecomposition.right(s3, h);
+
+        Permutation g = Permutation.cycle(1, 2, 3);
+        assertNotEquals(left.coset(left.cosetIndex(g)), right.coset(right.cosetIndex(g)));
+    }
+
+    @Test
+    void testPermutationRepresentationIsHomomorphism() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        CosetDecomposition<Permutation> cosets = CosetDecomposition.left(s4, pointStabilizer(s4, 4));
+
+        for (Permutation a : List.of(Permutation.cycle(1, 2, 3, 4), Permutation.transposition(1, 2, 4))) {
+            for (Permutation b : s4.elements()) {
+                Permutation ab = cosets.permutation(s4.operate(a, b));
+                assertEquals(ab, cosets.permutation(a).compose(cosets.permutation(b)));
+            }
+        }
+        assertEquals(Permutation.identity(4), cosets.permutation(s4.identity()));
+    }
+
+    @Test
+    void testIndexOfLargeQuotientOfCyclicGroup() {
+        CyclicGroup z = new CyclicGroup(30000);
+        Subgroup<CyclicElement> h = SubgroupGenerator.generate(z, Set.of(new CyclicElement(10000, 30000)));
+        CosetDecomposition<CyclicElement> cosets = CosetDecomposition.left(z, h);
+
+        assertEquals(10000, cosets.index());
+        assertEquals(cosets.cosetIndex(new CyclicElement(7, 30000)), cosets.cosetIndex(new CyclicElement(20007, 30000)));
+        assertThrows(IndexOutOfBoundsException.class, () -> cosets.representative(10000));
+    }
+}
@@ -0,0 +1,96 @@
+package d021248.group.quotient;
+
+import static d021248.group.GroupAssertions.pointStabilizer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.cyclic.CyclicElement;
+import d021248.group.cyclic.CyclicGroup;
+import d021248.group.dihedral.DihedralElement;
+import d021248.group.dihedral.DihedralGroup;
+import d021248.group.dihedral.Flip;
+import d021248.group.subgroup.Subgroup;
+import d021248.group.subgroup.SubgroupGenerator;
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.SymmetricGroup;
+
+class DoubleCosetDecompositionTest {
+
+    @Test
+    void testPointStabilizerDoubleCosetsInS4() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        Subgroup<Permutation> s3 = pointStabilizer(s4, 4);
+        DoubleCosetDecomposition<Permutation> dc = new DoubleCosetDecomposition<>(s4, s3, s3);
+
+        // S_4 acts 2-transitively, so S_3\S_4/S_3 has two double cosets
+        assertEquals(2, dc.count());
+        Set<Integer> sizes = new HashSet<>();
+        for (int i = 0; i < dc.count(); i++) {
+            sizes.add(dc.size(i));
+        }
+        assertEquals(Set.of(6, 18), sizes);
+    }
+
+    @Test
+    void testSizeFormulaAndPartition() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        Subgroup<Permutation> h = SubgroupGenerator.generate(s4, Set.of(Permutation.cycle(1, 2, 3, 4)));
+        Subgroup<Permutation> k = pointStabilizer(s4, 1);
+        DoubleCosetDecomposition<Permutation> dc = new DoubleCosetDecomposition<>(s4, h, k);
+
+        Set<Permutation> union = new HashSet<>();
+        int total = 0;
+        for (int i = 0; i < dc.count(); i++) {
+            Permutation x = dc.representative(i);
+            Set<Permutation> conjugated = k.elements().stream()
+                    .map(y -> s4.operate(s4.operate(x, y), s4.inverse(x)))
+                    .collect(Collectors.toSet());
+            conjugated.retainAll(h.elements());
+            assertEquals(h.order() * k.order() / conjugated.size(), dc.size(i));
+
+            Set<Permutation> members = dc.elements(i);
+            assertEquals(dc.size(i), members.size());
+            for (Permutation g : members) {
+                assertEquals(i, dc.doubleCosetIndex(g));
+            }
+            union.addAll(members);
+            total += dc.size(i);
+        }
+        assertEquals(24, total);
+        assertEquals(s4.elements(), union);
+    }
+
+    @Test
+    void testAbelianGroupDoubleCosetsAreCosetsOfProduct() {
+        CyclicGroup z12 = new CyclicGroup(12);
+        Subgroup<CyclicElement> h = SubgroupGenerator.generate(z12, Set.of(new CyclicElement(4, 12)));
+        Subgroup<CyclicElement> k = SubgroupGenerator.generate(z12, Set.of(new CyclicElement(6, 12)));
+        DoubleCosetDecomposition<CyclicElement> dc = new DoubleCosetDecomposition<>(z12, h, k);
+
+        // HK = <2> has order 6, so there are 2 double cosets of size 6
+        assertEquals(2, dc.count());
+        assertEquals(6, dc.size(0));
+        assertEquals(dc.doubleCosetIndex(new CyclicElement(0, 12)), dc.doubleCosetIndex(new CyclicElement(2, 12)));
+    }
+
+    @Test
+    void testTrivialSubgroupsGiveSingletons() {
+        DihedralGroup d5 = new DihedralGroup(5);
+        Subgroup<DihedralElement> trivial = SubgroupGenerator.generate(d5, Set.of());
+        Subgroup<DihedralElement> reflection = SubgroupGenerator.generate(d5,
+                Set.of(new DihedralElement(0, Flip.REFLECTION, 5)));
+        DoubleCosetDecomposition<DihedralElement> dc = new DoubleCosetDecomposition<>(d5, trivial, reflection);
+
+        assertEquals(5, dc.count());
+        for (int i = 0; i < dc.count(); i++) {
+            assertEquals(2, dc.size(i));
+            assertTrue(dc.elements(i).contains(dc.representative(i)));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package d021248.group.quotient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.symmetric.Permutation;
+import d021248.group.symmetric.PermutationGroup;
+
+class PermutationQuotientTest {
+
+    private static PermutationGroup symmetric(int n) {
+        return PermutationGroup.of(
+                Permutation.cycle(IntStream.rangeClosed(1, n).toArray()),
+                Permutation.transposition(1, 2, n));
+    }
+
+    private static PermutationGroup alternating(int n) {
+        List<Permutation> gens = new ArrayList<>();
+        for (int k = 3; k <= n; k++) {
+            int[] mapping = IntStream.rangeClosed(1, n).toArray();
+            mapping[0] = 2;
+            mapping[1] = k;
+            mapping[k - 1] = 1;
+            gens.add(new Permutation(mapping));
+        }
+        return new PermutationGroup(n, gens);
+    }
+
+    @Test
+    void testS4ModKleinFourIsS3() {
+        PermutationGroup s4 = symmetric(4);
+        PermutationGroup v4 = PermutationGroup.of(
+                new Permutation(new int[] { 2, 1, 4, 3 }),
+                new Permutation(new int[] { 3, 4, 1, 2 }));
+        PermutationQuotient q = new PermutationQuotient(s4, v4);
+
+        assertEquals(6, q.index());
+        assertEquals(6, q.group().order());
+        assertFalse(q.group().isAbelian());
+        assertEquals(0, q.cosetIndex(new Permutation(new int[] { 4, 3, 2, 1 })));
+    }
+
+    @Test
+    void testLargeSymmetricModAlternating() {
+        PermutationGroup s12 = symmetric(12);
+        PermutationQuotient q = new PermutationQuotient(s12, alternating(12));
+
+        assertEquals(2, q.index());
+        assertEquals(2, q.group().order());
+        Permutation odd = Permutation.transposition(5, 9, 12);
+        assertEquals(1, q.cosetIndex(odd));
+        assertEquals(q.group().identity(), q.project(odd.compose(odd)));
+        assertNotEquals(q.group().identity(), q.naturalProjection().apply(odd));
+    }
+
+    @Test
+    void testProjectionIsHomomorphism() {
+        // G = <(1 2 3), (4 5)> ≅ Z3 × Z2, N = <(4 5)>
+        Permutation c = new Permutation(new int[] { 2, 3, 1, 4, 5 });
+        Permutation t = Permutation.transposition(4, 5, 5);
+        PermutationGroup g = PermutationGroup.of(c, t);
+        PermutationQuotient q = new PermutationQuotient(g, PermutationGroup.of(t));
+
+        assertEquals(3, q.group().order());
+        for (Permutation a : g.elements()) {
+            for (Permutation b : g.elements()) {
+                assertEquals(q.project(a).compose(q.project(b)), q.project(a.compose(b)));
+            }
+        }
+    }
+
+    @Test
+    void testRejectsNonNormalSubgroup() {
+        PermutationGroup s4 = symmetric(4);
+        PermutationGroup notNormal = PermutationGroup.of(Permutation.transposition(1, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PermutationQuotient(s4, notNormal));
+    }
+}
@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -212,6 +214,80 @@ class QuotientGroupTest {
         assertTrue(coset1.toString().contains("H"));
     }
 
+    @Test
+    void testCosetHashIndependentOfRepresentative() {
+        CyclicGroup z12 = new CyclicGroup(12);
+        Subgroup<CyclicElement> h = SubgroupGenerator.generate(z12, Set.of(new CyclicElement(4, 12)));
+
+        Coset<CyclicElement> coset1 = new Coset<>(z12, h, new CyclicElement(1, 12));
+        Coset<CyclicElement> coset5 = new Coset<>(z12, h, new CyclicElement(5, 12));
+        Coset<CyclicElement> coset9 = new Coset<>(z12, h, new CyclicElement(9, 12));
+
+        assertEquals(coset1.hashCode(), coset5.hashCode());
+        assertEquals(coset1, coset9);
+        assertTrue(Set.of(coset1).contains(coset5));
+        assertTrue(coset5.contains(new CyclicElement(1, 12)));
+    }
+
+    @Test
+    void testProjectReturnsInternedCoset() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        AlternatingGroup a4Impl = new AlternatingGroup(4);
+        Subgroup<Permutation> a4 = new Subgroup<>(s4, a4Impl.elements());
+        QuotientGroup<Permutation> quotient = new QuotientGroup<>(s4, a4);
+
+        for (Permutation g : s4.elements()) {
+            Coset<Permutation> coset = quotient.project(g);
+            assertTrue(quotient.elements().contains(coset));
+            assertTrue(coset.contains(g));
+            // Products of interned cosets are themselves interned
+            assertTrue(quotient.elements().stream().anyMatch(c -> c == quotient.operate(coset, coset)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> quotient.project(Permutation.identity(3)));
+    }
+
+    @Test
+    void testCosetIdsAndQuotientTable() {
+        SymmetricGroup s4 = new SymmetricGroup(4);
+        Subgroup<Permutation> v4 = SubgroupGenerator.generate(s4, Set.of(
+                Permutation.fromCycles(4, List.of(List.of(1, 2), List.of(3, 4))),
+                Permutation.fromCycles(4, List.of(List.of(1, 3), List.of(2, 4)))));
+        QuotientGroup<Permutation> quotient = new QuotientGroup<>(s4, v4);
+
+        assertEquals(6, quotient.order());
+        assertEquals(0, quotient.cosetIndex(s4.identity()));
+        assertQuotientProducts(s4, quotient);
+        assertSame(quotient, quotient.tabulate());
+        assertQuotientProducts(s4, quotient);
+    }
+
+    private static void assertQuotientProducts(SymmetricGroup s4, QuotientGroup<Permutation> quotient) {
+        for (Permutation a : s4.elements()) {
+            for (Permutation b : s4.elements()) {
+                int expected = quotient.cosetIndex(s4.operate(a, b));
+                assertEquals(expected, quotient.multiply(quotient.cosetIndex(a), quotient.cosetIndex(b)));
+            }
+        }
+    }
+
+    @Test
+    void testNaturalProjectionAndIteratedQuotient() {
+        CyclicGroup z12 = new CyclicGroup(12);
+        Subgroup<CyclicElement> h = SubgroupGenerator.generate(z12, Set.of(new CyclicElement(6, 12)));
+        QuotientGroup<CyclicElement> quotient = new QuotientGroup<>(z12, h);
+
+        var projection = quotient.naturalProjection();
+        assertEquals(quotient.identity(), projection.apply(new CyclicElement(6, 12)));
+        assertEquals(quotient.cosetAt(quotient.cosetIndex(new CyclicElement(5, 12))),
+                projection.apply(new CyclicElement(11, 12)));
+
+        // (Z_12 / <6>) / <2 + <6>> has order 6 / 3 = 2
+        Subgroup<Coset<CyclicElement>> k = SubgroupGenerator.generate(quotient,
+                Set.of(quotient.project(new CyclicElement(2, 12))));
+        QuotientGroup<Coset<CyclicElement>> iterated = new QuotientGroup<>(quotient, k);
+        assertEquals(2, iterated.order());
+    }
+
     @Test
     void testFactoryMethod() {
         CyclicGroup z6 = GroupFactory.cyclic(6);
@@ -0,0 +1,121 @@
+package d021248.group.symmetric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PermutationGroupTest {
+
+    private static PermutationGroup symmetric(int n) {
+        return PermutationGroup.of(
+                Permutation.cycle(IntStream.rangeClosed(1, n).toArray()),
+                Permutation.transposition(1, 2, n));
+    }
+
+    private static PermutationGroup alternating(int n) {
+        List<Permutation> gens = new ArrayList<>();
+        for (int k = 3; k <= n; k++) {
+            gens.add(new Permutation(extend(Permutation.cycle(1, 2, k), n)));
+        }
+        return new PermutationGroup(n, gens);
+    }
+
+    private static int[] extend(Permutation p, int n) {
+        int[] mapping = new int[n];
+        for (int i = 0; i < n; i++) {
+            mapping[i] = i < p.size() ? p.mapping()[i] : i + 1;
+        }
+        return mapping;
+    }
+
+    private static BigInteger factorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    @Test
+    void testSymmetricGroupOrders() {
+        for (int n = 2; n <= 12; n++) {
+            assertEquals(factorial(n), symmetric(n).exactOrder(), "|S_" + n + "|");
+        }
+        assertEquals(factorial(20), symmetric(20).exactOrder());
+    }
+
+    @Test
+    void testAlternatingGroupMembership() {
+        PermutationGroup a10 = alternating(10);
+        assertEquals(factorial(10).shiftRight(1), a10.exactOrder());
+        assertTrue(a10.contains(new Permutation(extend(Permutation.cycle(3, 7, 9), 10))));
+        assertFalse(a10.contains(Permutation.transposition(3, 7, 10)));
+        assertFalse(a10.contains(Permutation.transposition(1, 2, 9)));
+    }
+
+    @Test
+    void testElementsMatchSymmetricGroup() {
+        PermutationGroup s4 = symmetric(4);
+        assertEquals(new SymmetricGroup(4).elements(), s4.elements());
+        assertEquals(24, s4.order());
+        assertEquals(4, s4.order(Permutation.cycle(1, 2, 3, 4)));
+    }
+
+    @Test
+    void testTrivialAndCyclicGroups() {
+        PermutationGroup trivial = new PermutationGroup(5, List.of());
+        assertEquals(1, trivial.order());
+        assertEquals(0, trivial.baseLength());
+        assertTrue(trivial.contains(Permutation.identity(5)));
+
+        PermutationGroup c6 = PermutationGroup.of(Permutation.cycle(1, 2, 3, 4, 5, 6));
+        assertEquals(6, c6.order());
+        assertTrue(c6.isAbelian());
+        assertFalse(symmetric(3).isAbelian());
+    }
+
+    @Test
+    void testStabilizerChainAndBase() {
+        PermutationGroup s5 = symmetric(5).withBase(5, 4);
+        assertEquals(5, s5.base()[0]);
+        assertEquals(4, s5.base()[1]);
+        int product = 1;
+        for (int i = 0; i < s5.baseLength(); i++) {
+            int[] orbit = s5.basicOrbit(i);
+            product *= orbit.length;
+            for (int point : orbit) {
+                assertEquals(point, s5.transversal(i, point).mapping()[s5.base()[i] - 1]);
+            }
+        }
+        assertEquals(120, product);
+    }
+
+    @Test
+    void testCosetRepresentativeIsCanonical() {
+        PermutationGroup s6 = symmetric(6);
+        PermutationGroup a6 = alternating(6);
+        Permutation even = a6.cosetRepresentative(Permutation.cycle(1, 2, 3, 4, 5, 6).compose(Permutation.transposition(1, 2, 6)));
+        assertEquals(Permutation.identity(6), even);
+        Permutation odd = a6.cosetRepresentative(Permutation.transposition(2, 5, 6));
+        assertEquals(odd, a6.cosetRepresentative(Permutation.transposition(1, 3, 6)));
+        assertTrue(s6.contains(odd));
+        assertFalse(a6.contains(odd));
+    }
+
+    @Test
+    void testLargeOrderRejectsEnumeration() {
+        PermutationGroup s20 = symmetric(20);
+        assertThrows(ArithmeticException.class, s20::order);
+        assertThrows(IllegalStateException.class, s20::elements);
+        assertThrows(IllegalArgumentException.class,
+                () -> new PermutationGroup(4, List.of(Permutation.cycle(1, 2, 3))));
+    }
+}
@@ -0,0 +1,192 @@
+package d021248.group.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import d021248.group.Group;
+import d021248.group.GroupFactory;
+import d021248.group.api.Element;
+import d021248.group.api.Operation;
+import d021248.group.util.GroupVerifier.AssociativityCheck;
+import d021248.group.util.GroupVerifier.Axiom;
+import d021248.group.util.GroupVerifier.Options;
+
+class GroupVerifierTest {
+
+    record Point(int value) implements Element {
+    }
+
+    /** A finite structure on 0..n-1 given by a multiplication table with identity 0. */
+    record TableMagma(int[][] table) implements Group<Point> {
+        @Override
+        public Set<Point> elements() {
+            return IntStream.range(0, table.length).mapToObj(Point::new).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Operation<Point> operation() {
+            return (a, b) -> new Point(table[a.value()][b.value()]);
+        }
+
+        @Override
+        public Point identity() {
+            return new Point(0);
+        }
+
+        @Override
+        public Point inverse(Point element) {
+            for (int j = 0; j < table.length; j++) {
+                if (table[element.value()][j] == 0) {
+                    return new Point(j);
+                }
+            }
+            return null;
+        }
+    }
+
+    // the loop of order 5 with every element self-inverse: a Latin square, but not a group
+    private static final int[][] LOOP_5 = {
+            { 0, 1, 2, 3, 4 },
+            { 1, 0, 3, 4, 2 },
+            { 2, 4, 0, 1, 3 },
+            { 3, 2, 4, 0, 1 },
+            { 4, 3, 1, 2, 0 } };
+
+    @Test
+    void testLightsTestOnGroups() {
+        var result = GroupVerifier.verify(GroupFactory.symmetric(5));
+        assertTrue(result.ok(), result.summary());
+        assertEquals(AssociativityCheck.LIGHT, result.associativity());
+        // a few generators instead of 120 middle elements
+        assertTrue(result.samples() <= 7L * 120 * 120, result.summary());
+
+        var exhaustive = GroupVerifier.verify(GroupFactory.dihedral(4), AssociativityCheck.EXHAUSTIVE);
+        assertTrue(exhaustive.ok());
+        assertEquals(8L * 8 * 8, exhaustive.samples());
+    }
+
+    @Test
+    void testNonAssociativeLoop() {
+        TableMagma loop = new TableMagma(LOOP_5);
+        for (AssociativityCheck mode : AssociativityCheck.values()) {
+            var result = GroupVerifier.verify(loop, mode);
+            assertFalse(result.ok(), mode.name());
+            assertEquals(mode, result.associativity());
+            assertTrue(result.violations().stream().allMatch(v -> v.startsWith("Associativity fails")));
+        }
+    }
+
+    @Test
+    void testLightsTestCatchesSingleBadEntry() {
+        // Z6 with the products 2·3 and 2·4 swapped: still closed, with identity and inverses
+        int[][] table = new int[6][6];
+        for (int a = 0; a < 6; a++) {
+            for (int b = 0; b < 6; b++) {
+                table[a][b] = (a + b) % 6;
+            }
+        }
+        table[2][3] = 0;
+        table[2][4] = 5;
+        var result = GroupVerifier.verify(new TableMagma(table));
+        assertFalse(result.ok());
+        assertEquals(AssociativityCheck.LIGHT, result.associativity());
+    }
+
+    @Test
+    void testClosureFailureFallsBackToAllTriples() {
+        // {0, 1} under addition mod 3
+        Group<Point> notClosed = new Group<>() {
+            @Override
+            public Set<Point> elements() {
+                return Set.of(new Point(0), new Point(1));
+            }
+
+            @Override
+            public Operation<Point> operation() {
+                return (a, b) -> new Point((a.value() + b.value()) % 3);
+            }
+
+            @Override
+            public Point identity() {
+                return new Point(0);
+            }
+
+            @Override
+            public Point inverse(Point element) {
+                return new Point((3 - element.value()) % 3);
+            }
+        };
+        var result = GroupVerifier.verify(notClosed);
+        assertFalse(result.ok());
+        assertEquals(AssociativityCheck.EXHAUSTIVE, result.associativity());
+        assertTrue(result.violations().stream().anyMatch(v -> v.startsWith("Closure violated")));
+    }
+
+    @Test
+    void testRandomizedSampleCount() {
+        var result = GroupVerifier.verifyRandomized(GroupFactory.symmetric(4), 0.999, 0.01);
+        assertTrue(result.ok());
+        assertEquals(AssociativityCheck.RANDOMIZED, result.associativity());
+        // ln(0.001) / ln(0.99) = 687.3
+        assertEquals(688, result.samples());
+        assertTrue(result.summary().contains("RANDOMIZED (688 checks)"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> GroupVerifier.verifyRandomized(GroupFactory.symmetric(3), 1.0, 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> GroupVerifier.verifyRandomized(GroupFactory.symmetric(3), 0.9, 0));
+    }
+
+    @Test
+    void testViolationLimitStopsEarly() {
+        var result = GroupVerifier.verify(new TableMagma(LOOP_5), Options.defaults().withViolationLimit(1));
+        assertFalse(result.ok());
+        assertEquals(1, result.violations().size());
+
+        // Z_1000 with a broken identity row: the later checks never run
+        int[][] table = new int[1000][1000];
+        for (int a = 0; a < 1000; a++) {
+            for (int b = 0; b < 1000; b++) {
+                table[a][b] = (a + b) % 1000;
+            }
+        }
+        table[0][7] = 8;
+        var broken = GroupVerifier.verify(new TableMagma(table), Options.defaults().withViolationLimit(1));
+        assertEquals(1, broken.violations().size());
+        assertEquals("Left identity fails for element: Point[value=7]", broken.violations().get(0));
+        assertEquals(Set.of(Axiom.IDENTITY), broken.timings().keySet());
+    }
+
+    @Test
+    void testParallelVerification() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Options parallel = Options.defaults().withPool(pool);
+            var sequential = GroupVerifier.verify(GroupFactory.symmetric(6));
+            var result = GroupVerifier.verify(GroupFactory.symmetric(6), parallel);
+            assertTrue(result.ok(), result.summary());
+            assertEquals(sequential.samples(), result.samples());
+            assertEquals(EnumSet.allOf(Axiom.class), result.timings().keySet());
+
+            var loop = GroupVerifier.verify(new TableMagma(LOOP_5), parallel.withViolationLimit(3));
+            assertFalse(loop.ok());
+            assertTrue(loop.violations().size() <= 3);
+
+            var randomized = GroupVerifier.verify(GroupFactory.symmetric(5), parallel.withSampling(0.99, 0.001));
+            assertTrue(randomized.ok());
+            assertEquals(4603, randomized.samples());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}